@@ -210,6 +210,22 @@ public class ApplicationConnection {
             }
             pd[pd.length] = smh.@com.vaadin.client.communication.MessageHandler::bootstrapTime;
             return pd;
+        });
+           client.getRoundTripTrace = $entry(function() {
+            var smh = ap.@com.vaadin.client.ApplicationConnection::registry.@com.vaadin.client.Registry::getMessageHandler()();
+            var trace = smh.@com.vaadin.client.communication.MessageHandler::getRoundTripTrace()();
+            return trace ? trace.@com.vaadin.client.communication.RoundTripTrace::toJson()() : null;
+        });
+           client.downloadRoundTripTrace = $entry(function() {
+            var trace = client.getRoundTripTrace() || { traceEvents: [] };
+            var blob = new $wnd.Blob([JSON.stringify(trace)], { type: 'application/json' });
+            var link = $doc.createElement('a');
+            link.href = $wnd.URL.createObjectURL(blob);
+            link.download = 'vaadin-round-trips.json';
+            link.click();
+            setTimeout(function() {
+                $wnd.URL.revokeObjectURL(link.href);
+            });
         });
         }
         client.resolveUri = $entry(function(uriToResolve) {
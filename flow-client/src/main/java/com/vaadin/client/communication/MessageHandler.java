@@ -42,6 +42,7 @@ import com.vaadin.flow.shared.JsonConstants;
 import com.vaadin.flow.shared.ui.LoadMode;
 
 import elemental.dom.Node;
+import elemental.json.Json;
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 
@@ -114,6 +115,11 @@ public class MessageHandler {
      */
     private ValueMap serverTimingInfo;
 
+    /**
+     * Server round trip timings, collected if the server sends phase timings.
+     */
+    private RoundTripTrace roundTripTrace;
+
     /**
      * Holds the last seen response id given by the server.
      * <p>
@@ -395,8 +401,14 @@ public class MessageHandler {
                 constantPool.importFromJson(constants);
             }
 
+            JsonObject clientTimings = Json.createObject();
             if (json.hasKey("changes")) {
+                Profiler.enter("MessageHandler.processChanges");
+                double changesStart = Duration.currentTimeMillis();
                 processChanges(json);
+                clientTimings.put("processChanges",
+                        Duration.currentTimeMillis() - changesStart);
+                Profiler.leave("MessageHandler.processChanges");
             }
 
             if (json.hasKey(JsonConstants.UIDL_KEY_EXECUTE)) {
@@ -442,7 +454,21 @@ public class MessageHandler {
                 Profiler.leave("Error handling");
             }
             nextResponseSessionExpiredHandler = null;
+            // DOM updates of the whole message are applied in this flush
+            Profiler.enter("Reactive.flush");
+            double flushStart = Duration.currentTimeMillis();
             Reactive.flush();
+            clientTimings.put("flush",
+                    Duration.currentTimeMillis() - flushStart);
+            Profiler.leave("Reactive.flush");
+
+            if (json.hasKey("phaseTimings")) {
+                if (roundTripTrace == null) {
+                    roundTripTrace = new RoundTripTrace();
+                }
+                roundTripTrace.addRoundTrip(start,
+                        json.getObject("phaseTimings"), clientTimings);
+            }
 
             lastProcessingTime = (int) (Duration.currentTimeMillis() - start);
             totalProcessingTime += lastProcessingTime;
@@ -720,6 +746,16 @@ public class MessageHandler {
         return pushId;
     }
 
+    /**
+     * Gets the collected server round trip timings.
+     *
+     * @return the round trip trace, or <code>null</code> if the server hasn't
+     *         sent any phase timings
+     */
+    public RoundTripTrace getRoundTripTrace() {
+        return roundTripTrace;
+    }
+
     /**
      * Checks if the first UIDL has been handled.
      *
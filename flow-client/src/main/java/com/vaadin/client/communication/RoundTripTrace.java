@@ -0,0 +1,138 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import com.vaadin.client.flow.collection.JsArray;
+import com.vaadin.client.flow.collection.JsCollections;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
+/**
+ * Collects the server side phase timings and the client side processing times
+ * of the latest server round trips as events in the Chrome trace event format,
+ * so that they can be inspected in the browser performance tools.
+ * <p>
+ * The server side phases are not measured with the client clock. They are
+ * placed right before the time when the response was received, so network
+ * time is not visible in the trace.
+ *
+ * @author Vaadin Ltd
+ */
+public class RoundTripTrace {
+
+    /**
+     * The maximum number of round trips to keep.
+     */
+    static final int MAX_ROUND_TRIPS = 100;
+
+    private static final int SERVER_THREAD = 1;
+    private static final int CLIENT_THREAD = 2;
+
+    private final JsArray<JsonArray> roundTrips = JsCollections.array();
+
+    /**
+     * Adds the timings of a handled response. The oldest round trip is
+     * dropped if there are already {@link #MAX_ROUND_TRIPS} round trips.
+     *
+     * @param receivedAt
+     *            the time in milliseconds when the response was received
+     * @param serverTimings
+     *            the phase timings sent by the server, not <code>null</code>
+     * @param clientTimings
+     *            the durations in milliseconds of the client side processing
+     *            phases, in processing order, not <code>null</code>
+     */
+    public void addRoundTrip(double receivedAt, JsonObject serverTimings,
+            JsonObject clientTimings) {
+        JsonArray events = Json.createArray();
+        String route = serverTimings.hasKey("route")
+                ? serverTimings.getString("route")
+                : null;
+
+        JsonObject phases = serverTimings.getObject("phases");
+        double serverTime = 0;
+        for (String phase : phases.keys()) {
+            serverTime += phases.getNumber(phase);
+        }
+        double time = receivedAt - serverTime;
+        for (String phase : phases.keys()) {
+            double duration = phases.getNumber(phase);
+            JsonObject event = createEvent(phase, SERVER_THREAD, time,
+                    duration, route);
+            if ("rpc".equals(phase) && serverTimings.hasKey("components")) {
+                event.getObject("args").put("components",
+                        serverTimings.getObject("components"));
+            }
+            events.set(events.length(), event);
+            time += duration;
+        }
+
+        time = receivedAt;
+        for (String phase : clientTimings.keys()) {
+            double duration = clientTimings.getNumber(phase);
+            events.set(events.length(),
+                    createEvent(phase, CLIENT_THREAD, time, duration, route));
+            time += duration;
+        }
+
+        roundTrips.push(events);
+        if (roundTrips.length() > MAX_ROUND_TRIPS) {
+            roundTrips.shift();
+        }
+    }
+
+    /**
+     * Gets the collected round trips as a trace in the Chrome trace event
+     * format.
+     *
+     * @return the trace JSON
+     */
+    public JsonObject toJson() {
+        JsonArray traceEvents = Json.createArray();
+        for (int i = 0; i < roundTrips.length(); i++) {
+            JsonArray events = roundTrips.get(i);
+            for (int j = 0; j < events.length(); j++) {
+                traceEvents.set(traceEvents.length(), events.getObject(j));
+            }
+        }
+        JsonObject trace = Json.createObject();
+        trace.put("traceEvents", traceEvents);
+        trace.put("displayTimeUnit", "ms");
+        return trace;
+    }
+
+    private static JsonObject createEvent(String name, int thread,
+            double start, double duration, String route) {
+        JsonObject event = Json.createObject();
+        event.put("name", name);
+        event.put("cat", thread == SERVER_THREAD ? "server" : "client");
+        // Complete event with a duration
+        event.put("ph", "X");
+        event.put("pid", 1);
+        event.put("tid", thread);
+        // Timestamps are in microseconds
+        event.put("ts", start * 1000);
+        event.put("dur", duration * 1000);
+        JsonObject args = Json.createObject();
+        if (route != null) {
+            args.put("route", route);
+        }
+        event.put("args", args);
+        return event;
+    }
+}
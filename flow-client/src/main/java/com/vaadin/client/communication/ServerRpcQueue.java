@@ -18,9 +18,12 @@ package com.vaadin.client.communication;
 import com.google.gwt.core.client.Scheduler;
 import com.vaadin.client.Console;
 import com.vaadin.client.Registry;
+import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.json.Json;
 import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
 import elemental.json.JsonValue;
 
 /**
@@ -56,6 +59,12 @@ public class ServerRpcQueue {
 
     /**
      * Adds an explicit RPC method invocation to the send queue.
+     * <p>
+     * A property sync invocation replaces a pending sync of the same property
+     * if there are only other property syncs after it in the queue, so that
+     * only the latest value is sent to the server. The pending sync keeps its
+     * position in the queue, so that the server applies the syncs of
+     * different properties in the order they were first changed.
      *
      * @param invocation
      *            RPC method invocation
@@ -66,9 +75,51 @@ public class ServerRpcQueue {
                     "Trying to invoke method on not yet started or stopped application");
             return;
         }
+        if (isMapSync(invocation)
+                && replacePendingSync((JsonObject) invocation)) {
+            return;
+        }
         pendingInvocations.set(pendingInvocations.length(), invocation);
     }
 
+    private boolean replacePendingSync(JsonObject invocation) {
+        /*
+         * Other invocations, such as events, must see the values synced before
+         * them. The search therefore stops at the first invocation which is
+         * not a property sync.
+         */
+        for (int i = pendingInvocations.length() - 1; i >= 0; i--) {
+            JsonValue pending = pendingInvocations.get(i);
+            if (!isMapSync(pending)) {
+                return false;
+            }
+            if (isSameProperty((JsonObject) pending, invocation)) {
+                pendingInvocations.set(i, invocation);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isMapSync(JsonValue invocation) {
+        if (invocation.getType() != JsonType.OBJECT) {
+            return false;
+        }
+        String type = ((JsonObject) invocation)
+                .getString(JsonConstants.RPC_TYPE);
+        return JsonConstants.RPC_TYPE_MAP_SYNC.equals(type);
+    }
+
+    private static boolean isSameProperty(JsonObject sync1,
+            JsonObject sync2) {
+        return sync1.getNumber(JsonConstants.RPC_NODE) == sync2
+                .getNumber(JsonConstants.RPC_NODE)
+                && sync1.getNumber(JsonConstants.RPC_FEATURE) == sync2
+                        .getNumber(JsonConstants.RPC_FEATURE)
+                && sync1.getString(JsonConstants.RPC_PROPERTY)
+                        .equals(sync2.getString(JsonConstants.RPC_PROPERTY));
+    }
+
     /**
      * Clears the queue.
      */
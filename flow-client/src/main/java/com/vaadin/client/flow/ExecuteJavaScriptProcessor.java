@@ -28,9 +28,11 @@ import com.vaadin.client.flow.util.NativeFunction;
 import com.vaadin.flow.component.page.Page;
 import com.vaadin.flow.internal.nodefeature.NodeFeatures;
 import com.vaadin.flow.internal.nodefeature.NodeProperties;
+import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.json.JsonArray;
 import elemental.json.JsonObject;
+import elemental.json.JsonType;
 import elemental.json.JsonValue;
 
 /**
@@ -100,12 +102,57 @@ public class ExecuteJavaScriptProcessor {
         }
 
         // Set the script source as the last parameter
-        String expression = invocation.getString(invocation.length() - 1);
+        String expression = getExpression(invocation.get(parameterCount),
+                parameterCount);
         parameterNamesAndCode[parameterNamesAndCode.length - 1] = expression;
 
         invoke(parameterNamesAndCode, parameters, map);
     }
 
+    private String getExpression(JsonValue script, int parameterCount) {
+        if (script.getType() == JsonType.STRING) {
+            return script.asString();
+        }
+
+        JsonObject scriptObject = (JsonObject) script;
+        String expression;
+        if (scriptObject.hasKey(JsonConstants.EXECUTE_EXPRESSION_CONSTANT)) {
+            JsonValue constant = registry.getConstantPool().get(scriptObject
+                    .getString(JsonConstants.EXECUTE_EXPRESSION_CONSTANT));
+            expression = constant.asString();
+        } else {
+            expression = scriptObject
+                    .getString(JsonConstants.EXECUTE_EXPRESSION);
+        }
+
+        if (scriptObject.hasKey(JsonConstants.EXECUTE_RETURN_CHANNELS)) {
+            // The channels are the last two parameters
+            expression = wrapWithReturnChannels(expression,
+                    parameterCount - 2, parameterCount - 1);
+        }
+        return expression;
+    }
+
+    /**
+     * Runs the original expression wrapped in a function to capture any return
+     * statement. Passes the return value through Promise.resolve which
+     * resolves regular values immediately and waits for thenable values. Calls
+     * either of the handlers once the promise completes. If the expression
+     * throws synchronously, runs the error handler.
+     */
+    private static String wrapWithReturnChannels(String expression,
+            int successIndex, int errorIndex) {
+        //@formatter:off
+        return "try{"
+            +   "Promise.resolve((function(){"
+            +     expression
+            +   "})()).then($"+successIndex+",function(error){$"+errorIndex+"(''+error)})"
+            + "}catch(error){"
+            +   "$"+errorIndex+"(''+error)"
+            + "}";
+        //@formatter:on
+    }
+
     private boolean isVirtualChildAwaitingInitialization(StateNode node) {
         if (node.getDomNode() != null
                 || node.getTree().getNode(node.getId()) == null) {
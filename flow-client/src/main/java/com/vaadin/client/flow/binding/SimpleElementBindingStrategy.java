@@ -59,6 +59,7 @@ import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.client.Browser;
 import elemental.css.CSSStyleDeclaration;
+import elemental.dom.DocumentFragment;
 import elemental.dom.Element;
 import elemental.dom.Node;
 import elemental.events.Event;
@@ -752,6 +753,7 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
             removeAllChildren(context.htmlNode);
         }
 
+        JsArray<Node> newChildren = JsCollections.array();
         for (int i = 0; i < children.length(); i++) {
             StateNode childNode = (StateNode) children.get(i);
 
@@ -764,9 +766,10 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
                 context.binderContext.createAndBind(childNode);
             } else {
                 child = context.binderContext.createAndBind(childNode);
-                DomApi.wrap(context.htmlNode).appendChild(child);
+                newChildren.push(child);
             }
         }
+        insertChildren(context.htmlNode, newChildren, null);
 
         return children.addSpliceListener(e -> {
             /*
@@ -1053,6 +1056,8 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
             beforeRef = null;
         }
 
+        // New children are inserted together before the same reference node
+        JsArray<Node> newChildren = JsCollections.array();
         for (int i = 0; i < add.length(); i++) {
             Object newChildObject = add.get(i);
             StateNode newChild = (StateNode) newChildObject;
@@ -1064,15 +1069,40 @@ public class SimpleElementBindingStrategy implements BindingStrategy<Element> {
                 existingElementMap.remove(newChild.getId());
                 newChild.setDomNode(childNode);
                 context.binderContext.createAndBind(newChild);
-            } else {
-                childNode = context.binderContext.createAndBind(newChild);
 
-                DomApi.wrap(context.htmlNode).insertBefore(childNode,
-                        beforeRef);
+                insertChildren(context.htmlNode, newChildren, beforeRef);
+                beforeRef = DomApi.wrap(childNode).getNextSibling();
+            } else {
+                newChildren.push(
+                        context.binderContext.createAndBind(newChild));
             }
+        }
+        insertChildren(context.htmlNode, newChildren, beforeRef);
+    }
 
-            beforeRef = DomApi.wrap(childNode).getNextSibling();
+    /**
+     * Inserts the given new child nodes before the reference node and clears
+     * the array. Several nodes are first collected into a document fragment so
+     * that the live DOM is modified only once, instead of once per child.
+     */
+    private static void insertChildren(Node htmlNode, JsArray<Node> children,
+            Node beforeRef) {
+        if (children.isEmpty()) {
+            return;
+        }
+        Node newChild;
+        if (children.length() == 1) {
+            newChild = children.get(0);
+        } else {
+            DocumentFragment fragment = Browser.getDocument()
+                    .createDocumentFragment();
+            for (int i = 0; i < children.length(); i++) {
+                fragment.appendChild(children.get(i));
+            }
+            newChild = fragment;
         }
+        DomApi.wrap(htmlNode).insertBefore(newChild, beforeRef);
+        children.clear();
     }
 
     private static Node getFirstNodeMappedAsStateNode(
@@ -404,6 +404,26 @@ public class GwtBasicElementBinderTest extends GwtPropertyElementBinderTest {
         assertEquals("DIV", childElement.getTagName());
     }
 
+    public void testInsertSeveralChildren_insertedInOrder() {
+        Binder.bind(node, element);
+
+        children.add(0, createChildNode("last", "br"));
+        Reactive.flush();
+
+        children.splice(0, 0,
+                JsCollections.array(createChildNode("first"),
+                        createChildNode("second", "a"),
+                        createChildNode("third", "h1")));
+        Reactive.flush();
+
+        assertEquals(4, element.getChildElementCount());
+        assertEquals("first", ((Element) element.getChildren().at(0)).getId());
+        assertEquals("second",
+                ((Element) element.getChildren().at(1)).getId());
+        assertEquals("third", ((Element) element.getChildren().at(2)).getId());
+        assertEquals("last", ((Element) element.getChildren().at(3)).getId());
+    }
+
     /**
      * This is important test which checks that index of insertion is calculated
      * correctly.
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
+public class RoundTripTraceTest {
+
+    private RoundTripTrace trace = new RoundTripTrace();
+
+    @Test
+    public void addRoundTrip_serverPhasesBeforeClientPhases() {
+        trace.addRoundTrip(1000, createServerTimings(), createClientTimings());
+
+        JsonArray events = trace.toJson().getArray("traceEvents");
+        Assert.assertEquals(2, events.length());
+
+        JsonObject rpc = events.getObject(0);
+        Assert.assertEquals("rpc", rpc.getString("name"));
+        Assert.assertEquals("X", rpc.getString("ph"));
+        Assert.assertEquals(990000, rpc.getNumber("ts"), 0);
+        Assert.assertEquals(10000, rpc.getNumber("dur"), 0);
+        Assert.assertEquals("com.example.MainView",
+                rpc.getObject("args").getString("route"));
+        Assert.assertEquals(8, rpc.getObject("args").getObject("components")
+                .getNumber("com.example.Button"), 0);
+
+        JsonObject flush = events.getObject(1);
+        Assert.assertEquals("flush", flush.getString("name"));
+        Assert.assertEquals("client", flush.getString("cat"));
+        Assert.assertEquals(1000000, flush.getNumber("ts"), 0);
+    }
+
+    @Test
+    public void addRoundTrip_tooManyRoundTrips_oldestDropped() {
+        for (int i = 0; i <= RoundTripTrace.MAX_ROUND_TRIPS; i++) {
+            trace.addRoundTrip(i, createServerTimings(),
+                    createClientTimings());
+        }
+
+        JsonArray events = trace.toJson().getArray("traceEvents");
+        Assert.assertEquals(RoundTripTrace.MAX_ROUND_TRIPS * 2,
+                events.length());
+        // The first client event is now the one received at 1 ms
+        Assert.assertEquals(1000, events.getObject(1).getNumber("ts"), 0);
+    }
+
+    private static JsonObject createServerTimings() {
+        JsonObject phases = Json.createObject();
+        phases.put("rpc", 10);
+        JsonObject components = Json.createObject();
+        components.put("com.example.Button", 8);
+
+        JsonObject timings = Json.createObject();
+        timings.put("route", "com.example.MainView");
+        timings.put("phases", phases);
+        timings.put("components", components);
+        return timings;
+    }
+
+    private static JsonObject createClientTimings() {
+        JsonObject timings = Json.createObject();
+        timings.put("flush", 5);
+        return timings;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.client.communication;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.vaadin.client.Registry;
+import com.vaadin.client.UILifecycle;
+import com.vaadin.client.UILifecycle.UIState;
+import com.vaadin.flow.shared.JsonConstants;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+public class ServerRpcQueueTest {
+
+    private final ServerRpcQueue queue = new ServerRpcQueue(new Registry() {
+        {
+            UILifecycle lifecycle = new UILifecycle();
+            lifecycle.setState(UIState.RUNNING);
+            set(UILifecycle.class, lifecycle);
+        }
+    });
+
+    @Test
+    public void add_sameProperty_onlyLatestValueQueued() {
+        queue.add(createSync(1, "value", "a"));
+        queue.add(createSync(2, "value", "x"));
+        queue.add(createSync(1, "value", "ab"));
+
+        Assert.assertEquals(2, queue.size());
+        Assert.assertEquals("ab", queue.toJson().getObject(0)
+                .getString(JsonConstants.RPC_PROPERTY_VALUE));
+        Assert.assertEquals("x", queue.toJson().getObject(1)
+                .getString(JsonConstants.RPC_PROPERTY_VALUE));
+    }
+
+    @Test
+    public void add_sameProperty_lastSync_replaced() {
+        queue.add(createSync(1, "value", "a"));
+        queue.add(createSync(1, "value", "ab"));
+
+        Assert.assertEquals(1, queue.size());
+        Assert.assertEquals("ab", queue.toJson().getObject(0)
+                .getString(JsonConstants.RPC_PROPERTY_VALUE));
+    }
+
+    @Test
+    public void add_eventBetweenSyncs_allQueued() {
+        queue.add(createSync(1, "value", "a"));
+        queue.add(createEvent(1, "input"));
+        queue.add(createSync(1, "value", "ab"));
+
+        Assert.assertEquals(3, queue.size());
+        Assert.assertEquals("a", queue.toJson().getObject(0)
+                .getString(JsonConstants.RPC_PROPERTY_VALUE));
+    }
+
+    private static JsonObject createSync(int node, String property,
+            String value) {
+        JsonObject message = Json.createObject();
+        message.put(JsonConstants.RPC_TYPE, JsonConstants.RPC_TYPE_MAP_SYNC);
+        message.put(JsonConstants.RPC_NODE, node);
+        message.put(JsonConstants.RPC_FEATURE, 1);
+        message.put(JsonConstants.RPC_PROPERTY, property);
+        message.put(JsonConstants.RPC_PROPERTY_VALUE, value);
+        return message;
+    }
+
+    private static JsonObject createEvent(int node, String eventType) {
+        JsonObject message = Json.createObject();
+        message.put(JsonConstants.RPC_TYPE, JsonConstants.RPC_TYPE_EVENT);
+        message.put(JsonConstants.RPC_NODE, node);
+        message.put(JsonConstants.RPC_EVENT_TYPE, eventType);
+        return message;
+    }
+}
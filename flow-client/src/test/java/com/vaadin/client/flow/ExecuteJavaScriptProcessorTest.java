@@ -31,6 +31,7 @@ import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.nodefeature.NodeFeatures;
 import com.vaadin.flow.internal.nodefeature.NodeProperties;
+import com.vaadin.flow.shared.JsonConstants;
 
 import elemental.js.dom.JsElement;
 import elemental.json.Json;
@@ -132,6 +133,40 @@ public class ExecuteJavaScriptProcessorTest {
         Assert.assertEquals(0, processor.nodeParametersList.get(1).size());
     }
 
+    @Test
+    public void execute_expressionFromConstantPoolWithReturnChannels_expressionWrapped() {
+        ConstantPool constantPool = new ConstantPool();
+        Registry registry = new Registry() {
+            {
+                set(StateTree.class, new StateTree(this));
+                set(ConstantPool.class, constantPool);
+            }
+        };
+        CollectingExecuteJavaScriptProcessor processor = new CollectingExecuteJavaScriptProcessor(
+                registry);
+
+        JsonObject constants = Json.createObject();
+        constants.put("id", "return $0");
+        constantPool.importFromJson(constants);
+
+        JsonObject script = Json.createObject();
+        script.put(JsonConstants.EXECUTE_EXPRESSION_CONSTANT, "id");
+        script.put(JsonConstants.EXECUTE_RETURN_CHANNELS, true);
+        // Plain values in place of the channels, only their count matters
+        JsonArray invocation = JsonUtils.createArray(Json.create("param"),
+                Json.create("success"), Json.create("error"), script);
+
+        processor.execute(JsonUtils.createArray(invocation));
+
+        String[] parameterNamesAndCode = processor.parameterNamesAndCodeList
+                .get(0);
+        Assert.assertEquals(4, parameterNamesAndCode.length);
+        String code = parameterNamesAndCode[3];
+        Assert.assertTrue(code.contains("(function(){return $0})()"));
+        Assert.assertTrue(code.contains(".then($1,"));
+        Assert.assertTrue(code.contains("$2(''+error)"));
+    }
+
     @Test
     public void execute_nodeParametersAreCorrectlyPassed() {
         Registry registry = new Registry() {
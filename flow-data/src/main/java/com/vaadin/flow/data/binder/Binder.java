@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -1055,6 +1056,13 @@ public class Binder<BEAN> implements Serializable {
 
         private boolean validatorsDisabled = false;
 
+        /**
+         * The last validation status of this binding, used when incremental
+         * validation is enabled for the binder. {@code null} if the field value
+         * has changed since the status was computed.
+         */
+        private BindingValidationStatus<TARGET> cachedValidationStatus;
+
         public BindingImpl(BindingBuilderImpl<BEAN, FIELDVALUE, TARGET> builder,
                 ValueProvider<BEAN, TARGET> getter,
                 Setter<BEAN, TARGET> setter) {
@@ -1154,7 +1162,21 @@ public class Binder<BEAN> implements Serializable {
          * @return the validation status
          */
         private BindingValidationStatus<TARGET> doValidation() {
-            return toValidationStatus(doConversion());
+            if (binder == null || !binder.isIncrementalValidation()) {
+                return toValidationStatus(doConversion());
+            }
+            if (cachedValidationStatus == null) {
+                cachedValidationStatus = toValidationStatus(doConversion());
+            }
+            return cachedValidationStatus;
+        }
+
+        /**
+         * Discards the cached validation status of this binding so that the
+         * next validation runs the converter and validator chain again.
+         */
+        private void invalidateValidationStatus() {
+            cachedValidationStatus = null;
         }
 
         /**
@@ -1220,6 +1242,7 @@ public class Binder<BEAN> implements Serializable {
          */
         private void handleFieldValueChange(
                 ValueChangeEvent<FIELDVALUE> event) {
+            invalidateValidationStatus();
             // Don't handle change events when setting initial value
             if (valueInit) {
                 return;
@@ -1327,6 +1350,7 @@ public class Binder<BEAN> implements Serializable {
             }
             if (asRequiredEnabled != isAsRequiredEnabled()) {
                 field.setRequiredIndicatorVisible(asRequiredEnabled);
+                invalidateValidationStatus();
                 validate();
             }
         }
@@ -1339,6 +1363,7 @@ public class Binder<BEAN> implements Serializable {
         @Override
         public void setValidatorsDisabled(boolean validatorsDisabled) {
             this.validatorsDisabled = validatorsDisabled;
+            invalidateValidationStatus();
         }
 
         @Override
@@ -1453,6 +1478,27 @@ public class Binder<BEAN> implements Serializable {
 
     private boolean validatorsDisabled = false;
 
+    private boolean incrementalValidation = false;
+
+    /**
+     * Bindings declared as dependencies of bean level validators, keyed by the
+     * registered (wrapped) validator. Validators without an entry depend on
+     * all bindings.
+     */
+    private final Map<Validator<? super BEAN>, Set<Binding<BEAN, ?>>> validatorDependencies = new HashMap<>();
+
+    /**
+     * The last results of bean level validators for the currently set bean,
+     * used when incremental validation is enabled.
+     */
+    private final Map<Validator<? super BEAN>, ValidationResult> beanValidationResults = new HashMap<>();
+
+    /**
+     * Bindings whose field value has changed since bean level validators were
+     * last run, used when incremental validation is enabled.
+     */
+    private final Set<Binding<BEAN, ?>> dirtyBindings = new HashSet<>();
+
     /**
      * Creates a binder using a custom {@link PropertySet} implementation for
      * finding and resolving property names for
@@ -1556,6 +1602,9 @@ public class Binder<BEAN> implements Serializable {
      */
     protected void handleFieldValueChange(Binding<BEAN, ?> binding) {
         changedBindings.add(binding);
+        if (isIncrementalValidation()) {
+            dirtyBindings.add(binding);
+        }
         if (getBean() != null) {
             doWriteIfValid(getBean(), changedBindings);
         } else {
@@ -1770,6 +1819,7 @@ public class Binder<BEAN> implements Serializable {
             doRemoveBean(false);
             this.bean = bean;
             getBindings().forEach(b -> b.initFieldValue(bean, true));
+            clearValidationCache();
             // if there has been field value change listeners that trigger
             // validation, need to make sure the validation errors are cleared
             getValidationStatusHandler().statusChange(
@@ -1821,6 +1871,7 @@ public class Binder<BEAN> implements Serializable {
                     binding.initFieldValue(bean, false);
                 }
             });
+            clearValidationCache();
             getValidationStatusHandler().statusChange(
                     BinderValidationStatus.createUnresolvedStatus(this));
             fireStatusChangeEvent(false);
@@ -2080,6 +2131,34 @@ public class Binder<BEAN> implements Serializable {
         return this;
     }
 
+    /**
+     * Adds a bean level validator which only depends on the values of the
+     * given bindings.
+     * <p>
+     * The validator is applied like any validator added using
+     * {@link #withValidator(Validator)}. When incremental validation is
+     * enabled, the last result of the validator is reused as long as none of
+     * the field values of the given bindings has changed.
+     *
+     * @see #withValidator(Validator)
+     * @see #setIncrementalValidation(boolean)
+     *
+     * @param validator
+     *            the validator to add, not null
+     * @param dependencies
+     *            the bindings whose values the validator reads, not null
+     * @return this binder, for chaining
+     */
+    @SafeVarargs
+    public final Binder<BEAN> withValidator(Validator<? super BEAN> validator,
+            Binding<BEAN, ?>... dependencies) {
+        Objects.requireNonNull(dependencies, "dependencies cannot be null");
+        withValidator(validator);
+        validatorDependencies.put(validators.get(validators.size() - 1),
+                new HashSet<>(Arrays.asList(dependencies)));
+        return this;
+    }
+
     /**
      * A convenience method to add a validator to this binder using the
      * {@link Validator#from(SerializablePredicate, String)} factory method.
@@ -2259,12 +2338,45 @@ public class Binder<BEAN> implements Serializable {
      */
     private List<ValidationResult> validateBean(BEAN bean) {
         Objects.requireNonNull(bean, "bean cannot be null");
+        if (isIncrementalValidation() && bean == getBean()) {
+            return validateBeanIncrementally(bean);
+        }
         return validators.stream()
                 .map(validator -> validator.apply(bean, new ValueContext()))
                 .collect(Collectors.collectingAndThen(Collectors.toList(),
                         Collections::unmodifiableList));
     }
 
+    /**
+     * Validates the currently set {@code bean} reusing the cached results of
+     * bean level validators whose declared dependencies haven't changed since
+     * they were last run.
+     *
+     * @param bean
+     *            the currently set bean
+     * @return a list of validation results
+     */
+    private List<ValidationResult> validateBeanIncrementally(BEAN bean) {
+        List<ValidationResult> results = new ArrayList<>(validators.size());
+        for (Validator<? super BEAN> validator : validators) {
+            ValidationResult result = beanValidationResults.get(validator);
+            if (result == null || isValidatorDirty(validator)) {
+                result = validator.apply(bean, new ValueContext());
+                beanValidationResults.put(validator, result);
+            }
+            results.add(result);
+        }
+        dirtyBindings.clear();
+        return Collections.unmodifiableList(results);
+    }
+
+    private boolean isValidatorDirty(Validator<? super BEAN> validator) {
+        Set<Binding<BEAN, ?>> dependencies = validatorDependencies
+                .get(validator);
+        return dependencies == null
+                || dependencies.stream().anyMatch(dirtyBindings::contains);
+    }
+
     /**
      * Sets the label to show the binder level validation errors not related to
      * any specific field.
@@ -2637,6 +2749,7 @@ public class Binder<BEAN> implements Serializable {
 
     private void doRemoveBean(boolean fireStatusEvent) {
         changedBindings.clear();
+        clearValidationCache();
         if (bean != null) {
             bean = null;
         }
@@ -3050,6 +3163,7 @@ public class Binder<BEAN> implements Serializable {
             boundProperties.entrySet()
                     .removeIf(entry -> entry.getValue().equals(binding));
             changedBindings.remove(binding);
+            dirtyBindings.remove(binding);
         }
     }
 
@@ -3073,6 +3187,7 @@ public class Binder<BEAN> implements Serializable {
      */
     public void setValidatorsDisabled(boolean validatorsDisabled) {
         this.validatorsDisabled = validatorsDisabled;
+        clearValidationCache();
     }
 
     /**
@@ -3084,4 +3199,54 @@ public class Binder<BEAN> implements Serializable {
     public boolean isValidatorsDisabled() {
         return validatorsDisabled;
     }
+
+    /**
+     * Sets whether this binder validates incrementally.
+     * <p>
+     * In incremental mode, the validation status of each binding is cached
+     * and only recomputed after the value of its field has changed. When a
+     * bean has been set using {@link #setBean(Object)}, the results of bean
+     * level validators added using
+     * {@link #withValidator(Validator, Binding...)} are also cached and only
+     * recomputed when the value of one of their dependencies has changed.
+     * Other bean level validators are always run.
+     * <p>
+     * Incremental validation assumes that binding level validators only
+     * depend on the value of their own field. If validation also depends on
+     * some other state, call {@link #clearValidationCache()} whenever that
+     * state changes.
+     *
+     * @param incrementalValidation
+     *            {@code true} to enable incremental validation, {@code false}
+     *            to validate everything on each validation
+     */
+    public void setIncrementalValidation(boolean incrementalValidation) {
+        this.incrementalValidation = incrementalValidation;
+        clearValidationCache();
+    }
+
+    /**
+     * Returns whether this binder validates incrementally.
+     *
+     * @see #setIncrementalValidation(boolean)
+     *
+     * @return {@code true} if incremental validation is enabled, {@code false}
+     *         otherwise
+     */
+    public boolean isIncrementalValidation() {
+        return incrementalValidation;
+    }
+
+    /**
+     * Discards all cached binding and bean level validation results so that
+     * the next validation runs all validators again. Has no effect unless
+     * incremental validation is enabled.
+     *
+     * @see #setIncrementalValidation(boolean)
+     */
+    public void clearValidationCache() {
+        getBindings().forEach(BindingImpl::invalidateValidationStatus);
+        beanValidationResults.clear();
+        dirtyBindings.clear();
+    }
 }
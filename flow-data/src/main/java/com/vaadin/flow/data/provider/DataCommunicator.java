@@ -21,18 +21,26 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentUtil;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.data.provider.ArrayUpdater.Update;
 import com.vaadin.flow.data.provider.DataChangeEvent.DataRefreshEvent;
 import com.vaadin.flow.dom.Element;
@@ -42,6 +50,8 @@ import com.vaadin.flow.internal.ExecutionContext;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.Range;
 import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.internal.StateTree;
+import com.vaadin.flow.server.Command;
 import com.vaadin.flow.shared.Registration;
 import org.slf4j.LoggerFactory;
 
@@ -62,6 +72,13 @@ import elemental.json.JsonValue;
  */
 public class DataCommunicator<T> implements Serializable {
     public static final int DEFAULT_PAGE_INCREASE_COUNT = 4;
+
+    /**
+     * The maximum number of pages kept in the prefetch cache when push updates
+     * are enabled.
+     */
+    private static final int MAX_PREFETCHED_PAGES = 4;
+
     private final DataGenerator<T> dataGenerator;
     private final ArrayUpdater arrayUpdater;
     private final SerializableConsumer<JsonArray> dataUpdater;
@@ -118,6 +135,29 @@ public class DataCommunicator<T> implements Serializable {
     // Paged queries are enabled by default
     private boolean pagingEnabled = true;
 
+    // Executor for asynchronous fetching, null when push updates are disabled
+    private transient Executor executor;
+
+    /*
+     * Incremented for each asynchronous flush and whenever the data is reset
+     * so that results of superseded fetches are ignored.
+     */
+    private int fetchGeneration;
+
+    // Pages fetched ahead of the requested range, keyed by page offset
+    private transient Map<Integer, CompletableFuture<List<T>>> prefetchedPages;
+
+    // Time in milliseconds to reuse a fetched item count, 0 to never reuse
+    private long itemCountCacheTimeout;
+    private int cachedItemCount = -1;
+    private long cachedItemCountTime;
+    /*
+     * Incremented whenever the cached item count is invalidated so that
+     * results of refreshes started before that are ignored.
+     */
+    private int itemCountGeneration;
+    private transient CompletableFuture<Integer> itemCountRefresh;
+
     private static class SizeVerifier<T> implements Consumer<T>, Serializable {
 
         private int size;
@@ -141,6 +181,46 @@ public class DataCommunicator<T> implements Serializable {
 
     }
 
+    /**
+     * Query parameters captured while holding the session lock for a query
+     * that is run in a background thread.
+     */
+    private static class QuerySnapshot<T> {
+
+        private final DataCommunicator<T> owner;
+        private final DataProvider<T, ?> provider;
+        private final List<QuerySortOrder> sortOrders;
+        private final SerializableComparator<T> comparator;
+        private final Object filter;
+        private final CallbackDataProvider.CountCallback<T, ?> countCallback;
+
+        private QuerySnapshot(DataCommunicator<T> owner) {
+            this.owner = owner;
+            provider = owner.getDataProvider();
+            sortOrders = new ArrayList<>(owner.backEndSorting);
+            comparator = owner.inMemorySorting;
+            filter = owner.getFilter();
+            countCallback = owner.countCallback;
+        }
+
+        private <R> R run(Supplier<R> query) {
+            QuerySnapshot<?> previous = ASYNC_QUERY.get();
+            ASYNC_QUERY.set(this);
+            try {
+                return query.get();
+            } finally {
+                if (previous == null) {
+                    ASYNC_QUERY.remove();
+                } else {
+                    ASYNC_QUERY.set(previous);
+                }
+            }
+        }
+    }
+
+    // The query parameters of the background query run by the current thread
+    private static final ThreadLocal<QuerySnapshot<?>> ASYNC_QUERY = new ThreadLocal<>();
+
     /**
      * Creates a new instance.
      *
@@ -187,6 +267,8 @@ public class DataCommunicator<T> implements Serializable {
      * It effectively resends all available data.
      */
     public void reset() {
+        fetchGeneration++;
+        clearPrefetchedPages();
         skipCountIncreaseUntilReset = false;
         sizeReset = true;
         resendEntireRange = true;
@@ -207,6 +289,7 @@ public class DataCommunicator<T> implements Serializable {
         getKeyMapper().refresh(data);
         dataGenerator.refreshData(data);
         updatedData.add(data);
+        clearPrefetchedPages();
         requestFlushUpdatedData();
     }
 
@@ -260,6 +343,7 @@ public class DataCommunicator<T> implements Serializable {
         Objects.requireNonNull(dataProvider, "data provider cannot be null");
         filter = initialFilter;
         countCallback = null;
+        invalidateItemCount();
         definedSize = true;
         sizeReset = true;
 
@@ -282,6 +366,7 @@ public class DataCommunicator<T> implements Serializable {
 
             if (!Objects.equals(this.filter, filter)) {
                 this.filter = filter;
+                invalidateItemCount();
                 reset();
             }
         };
@@ -296,10 +381,7 @@ public class DataCommunicator<T> implements Serializable {
     public int getItemCount() {
         if (isDefinedSize()
                 && (resendEntireRange || assumeEmptyClient || sizeReset)) {
-            // TODO it could be possible to cache the value returned here
-            // and use it next time instead of making another query, unless
-            // the conditions like filter (or another reset) have changed
-            return getDataProviderSize();
+            return getItemCountWithCache();
         }
         // do not report a stale size or size estimate
         if (!isDefinedSize() && sizeReset) {
@@ -404,6 +486,7 @@ public class DataCommunicator<T> implements Serializable {
                     "Page size cannot be less than 1, got %d", pageSize));
         }
         this.pageSize = pageSize;
+        clearPrefetchedPages();
     }
 
     /**
@@ -431,6 +514,7 @@ public class DataCommunicator<T> implements Serializable {
                             + "setDefinedSize(boolean) method instead.");
         }
         this.countCallback = countCallback;
+        invalidateItemCount();
         definedSize = true;
         skipCountIncreaseUntilReset = false;
         // there is no reset but we need to get the defined size
@@ -531,6 +615,7 @@ public class DataCommunicator<T> implements Serializable {
         if (this.definedSize != definedSize) {
             this.definedSize = definedSize;
             countCallback = null;
+            invalidateItemCount();
             skipCountIncreaseUntilReset = false;
             if (definedSize) {
                 // Always fetch explicit count from data provider
@@ -646,6 +731,161 @@ public class DataCommunicator<T> implements Serializable {
      */
     public void setPagingEnabled(boolean pagingEnabled) {
         this.pagingEnabled = pagingEnabled;
+        clearPrefetchedPages();
+    }
+
+    /**
+     * Enables push updates, which makes the data communicator fetch items from
+     * the data provider asynchronously using the given executor instead of
+     * fetching them while holding the session lock.
+     * <p>
+     * When enabled, all pages needed for a requested range are queried
+     * concurrently and the page following the requested range is prefetched
+     * when scrolling forward. The items are queried with
+     * {@link #fetchFromProvider(int, int)}, called in a background thread with
+     * the data provider, filter and sorting in use when the query was started.
+     * The results are applied using
+     * {@link UI#access(com.vaadin.flow.server.Command)} when they are
+     * available, so server push should be enabled for the UI for the items to
+     * be shown without waiting for the next round trip.
+     * <p>
+     * The data provider must be safe to call from a background thread. The
+     * executor is not serialized; push updates are disabled after the data
+     * communicator has been deserialized.
+     *
+     * @param executor
+     *            the executor to run the data provider queries with, or
+     *            {@code null} to fetch items synchronously
+     */
+    public void enablePushUpdates(Executor executor) {
+        this.executor = executor;
+        fetchGeneration++;
+        clearPrefetchedPages();
+    }
+
+    /**
+     * Gets the executor used for fetching items asynchronously.
+     *
+     * @return the executor used for push updates, or {@code null} if push
+     *         updates are disabled
+     * @see #enablePushUpdates(Executor)
+     */
+    public Executor getPushUpdatesExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the time for which an item count fetched from the data provider is
+     * reused in defined size mode, instead of querying the count again
+     * whenever the data is reset.
+     * <p>
+     * The cached count is discarded when the filter, the data provider or the
+     * count callback changes, and when the data provider returns fewer items
+     * than expected. Otherwise the count may be out of date by up to the given
+     * time, also after the data has been refreshed. When the count has
+     * expired, it is refreshed with a new query. If push updates have been
+     * enabled with {@link #enablePushUpdates(Executor)}, the previous count is
+     * used meanwhile and the new count is queried in the background. If it
+     * differs from the previous one, the component is updated and an
+     * {@link ItemCountChangeEvent} is fired with the corrected count. The
+     * count is then queried with {@link #getDataProviderSize()}, called in a
+     * background thread with the data provider and filter in use when the
+     * query was started.
+     *
+     * @param timeout
+     *            the time in milliseconds to reuse a fetched item count, or
+     *            {@code 0} to always query the count
+     */
+    public void setItemCountCacheTimeout(long timeout) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Item count cache timeout cannot be negative, got %d",
+                    timeout));
+        }
+        itemCountCacheTimeout = timeout;
+        invalidateItemCount();
+    }
+
+    /**
+     * Gets the time for which an item count fetched from the data provider is
+     * reused in defined size mode.
+     *
+     * @return the time in milliseconds, or {@code 0} if the item count is
+     *         always queried
+     * @see #setItemCountCacheTimeout(long)
+     */
+    public long getItemCountCacheTimeout() {
+        return itemCountCacheTimeout;
+    }
+
+    private int getItemCountWithCache() {
+        if (itemCountCacheTimeout <= 0) {
+            return getDataProviderSize();
+        }
+        if (cachedItemCount < 0) {
+            updateCachedItemCount(getDataProviderSize());
+        } else if (getCurrentTimeMillis()
+                - cachedItemCountTime > itemCountCacheTimeout) {
+            UI ui = getUI();
+            if (executor != null && ui != null) {
+                refreshItemCountAsync(ui);
+            } else {
+                updateCachedItemCount(getDataProviderSize());
+            }
+        }
+        return cachedItemCount;
+    }
+
+    private void updateCachedItemCount(int itemCount) {
+        cachedItemCount = itemCount;
+        cachedItemCountTime = getCurrentTimeMillis();
+    }
+
+    // package-private for testing
+    long getCurrentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private void invalidateItemCount() {
+        cachedItemCount = -1;
+        itemCountGeneration++;
+        itemCountRefresh = null;
+    }
+
+    private void refreshItemCountAsync(UI ui) {
+        if (itemCountRefresh != null) {
+            // already being refreshed
+            return;
+        }
+        final int generation = itemCountGeneration;
+        final QuerySnapshot<T> snapshot = new QuerySnapshot<>(this);
+        itemCountRefresh = CompletableFuture.supplyAsync(
+                () -> snapshot.run(this::getDataProviderSize), executor);
+        itemCountRefresh.whenComplete((itemCount, error) -> ui.access(() -> {
+            if (generation != itemCountGeneration) {
+                // invalidated while the count was being fetched
+                return;
+            }
+            itemCountRefresh = null;
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException
+                        ? error.getCause()
+                        : error;
+                throw cause instanceof RuntimeException
+                        ? (RuntimeException) cause
+                        : new IllegalStateException(
+                                "Unable to fetch the item count from the data provider",
+                                cause);
+            }
+            boolean changed = itemCount.intValue() != cachedItemCount;
+            updateCachedItemCount(itemCount);
+            if (changed && definedSize) {
+                // Items being fetched for the previous count are discarded
+                fetchGeneration++;
+                sizeReset = true;
+                requestFlush();
+            }
+        }));
     }
 
     /**
@@ -658,6 +898,13 @@ public class DataCommunicator<T> implements Serializable {
     @SuppressWarnings({ "unchecked", "rawtypes" })
     protected int getDataProviderSize() {
         assert definedSize : "This method should never be called when using undefined size";
+        QuerySnapshot<T> query = getAsyncQuery();
+        if (query != null) {
+            // counting in the background with the parameters of the snapshot
+            return query.countCallback != null
+                    ? query.countCallback.count(new Query(query.filter))
+                    : query.provider.size(new Query(query.filter));
+        }
         if (countCallback != null) {
             return countCallback.count(new Query(getFilter()));
         } else {
@@ -695,6 +942,10 @@ public class DataCommunicator<T> implements Serializable {
      * <em>NOTE:</em> the {@code limit} parameter shows how many items the
      * client wants to fetch, but the actual number of results may be greater,
      * and vary from {@code 0 to pages * pageSize}.
+     * <p>
+     * If push updates have been enabled with
+     * {@link #enablePushUpdates(Executor)}, this method is also called from a
+     * background thread without holding the session lock.
      *
      * @param offset
      *            the starting index of the range
@@ -762,11 +1013,170 @@ public class DataCommunicator<T> implements Serializable {
         return stream.peek(verifier);
     }
 
+    /**
+     * Fetches a list of items from the DataProvider asynchronously using the
+     * executor given to {@link #enablePushUpdates(Executor)}.
+     * <p>
+     * When paging is enabled, all pages overlapping the requested range are
+     * queried concurrently and pages that have been prefetched are reused.
+     * Pages following the first empty or partial page are dropped from the
+     * result.
+     * <p>
+     * This method is called while holding the session lock, but the returned
+     * future is completed in a background thread.
+     *
+     * @param offset
+     *            the starting index of the range
+     * @param limit
+     *            the desired number of results
+     * @return a future completed with the items in the given range
+     */
     @SuppressWarnings({ "rawtypes", "unchecked" })
+    protected CompletableFuture<List<T>> fetchFromProviderAsync(int offset,
+            int limit) {
+        Function<Range, List<T>> fetcher = createAsyncFetcher();
+        if (!pagingEnabled) {
+            return CompletableFuture.supplyAsync(
+                    () -> fetcher.apply(Range.withLength(offset, limit)),
+                    executor);
+        }
+
+        final int pages = (limit - 1) / pageSize + 1;
+        final List<CompletableFuture<List<T>>> pageFetches = new ArrayList<>(
+                pages);
+        for (int page = 0; page < pages; page++) {
+            pageFetches.add(fetchPageAsync(offset + page * pageSize, fetcher));
+        }
+        return CompletableFuture
+                .allOf(pageFetches.toArray(new CompletableFuture[pages]))
+                .thenApply(ignore -> {
+                    List<T> items = new ArrayList<>(pages * pageSize);
+                    for (CompletableFuture<List<T>> pageFetch : pageFetches) {
+                        List<T> pageItems = pageFetch.join();
+                        items.addAll(pageItems);
+                        if (pageItems.size() < pageSize) {
+                            break;
+                        }
+                    }
+                    return items;
+                });
+    }
+
+    private CompletableFuture<List<T>> fetchPageAsync(int offset,
+            Function<Range, List<T>> fetcher) {
+        CompletableFuture<List<T>> prefetched = getPrefetchedPages()
+                .remove(offset);
+        if (prefetched != null) {
+            return prefetched;
+        }
+        return CompletableFuture.supplyAsync(
+                () -> fetcher.apply(Range.withLength(offset, pageSize)),
+                executor);
+    }
+
+    /**
+     * Creates a function for querying the data provider from a background
+     * thread using {@link #fetchFromProvider(int, int)}. The query parameters
+     * are captured when this method is called, so that later changes made
+     * while holding the session lock don't affect queries that are already
+     * running.
+     */
+    private Function<Range, List<T>> createAsyncFetcher() {
+        final QuerySnapshot<T> snapshot = new QuerySnapshot<>(this);
+        return range -> snapshot.run(
+                () -> fetchFromProvider(range.getStart(), range.length())
+                        .collect(Collectors.toList()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private QuerySnapshot<T> getAsyncQuery() {
+        QuerySnapshot<?> snapshot = ASYNC_QUERY.get();
+        return snapshot != null && snapshot.owner == this
+                ? (QuerySnapshot<T>) snapshot
+                : null;
+    }
+
+    private void prefetchNextPage(Range previousActive,
+            Range effectiveRequested) {
+        /*
+         * Only the page after the requested range is prefetched. When
+         * scrolling backwards, the pages are queried from the start of the
+         * requested range, which rarely lines up with a page before the
+         * previous range.
+         */
+        if (!pagingEnabled || !isPrefetchEnabled()
+                || effectiveRequested.isEmpty()
+                || effectiveRequested.getStart() < previousActive.getStart()) {
+            return;
+        }
+        final int offset = effectiveRequested.getEnd();
+        if (definedSize && offset >= assumedSize) {
+            return;
+        }
+        Map<Integer, CompletableFuture<List<T>>> pages = getPrefetchedPages();
+        if (!pages.containsKey(offset)) {
+            Function<Range, List<T>> fetcher = createAsyncFetcher();
+            pages.put(offset, CompletableFuture.supplyAsync(
+                    () -> fetcher.apply(Range.withLength(offset, pageSize)),
+                    executor));
+        }
+    }
+
+    /**
+     * Gets whether the page following the requested range is fetched in
+     * advance when push updates are enabled. The page is fetched in a
+     * background thread with {@link #fetchFromProvider(int, int)} and is used
+     * by {@link #fetchFromProviderAsync(int, int)} when it is requested.
+     * <p>
+     * Subclasses should return <code>false</code> if they override
+     * {@link #fetchFromProviderAsync(int, int)} so that prefetched pages are
+     * not used, or if {@link #fetchFromProvider(int, int)} cannot be called
+     * outside the session lock. The default implementation returns
+     * <code>true</code>.
+     *
+     * @return <code>true</code> if the next page is prefetched, otherwise
+     *         <code>false</code>
+     */
+    protected boolean isPrefetchEnabled() {
+        return true;
+    }
+
+    private Map<Integer, CompletableFuture<List<T>>> getPrefetchedPages() {
+        if (prefetchedPages == null) {
+            prefetchedPages = new LinkedHashMap<Integer, CompletableFuture<List<T>>>() {
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<Integer, CompletableFuture<List<T>>> eldest) {
+                    return size() > MAX_PREFETCHED_PAGES;
+                }
+            };
+        }
+        return prefetchedPages;
+    }
+
+    private void clearPrefetchedPages() {
+        if (prefetchedPages != null) {
+            prefetchedPages.clear();
+        }
+    }
+
     private Stream<T> doFetchFromDataProvider(int offset, int limitedTo) {
-        QueryTrace query = new QueryTrace(offset, limitedTo, backEndSorting,
-                inMemorySorting, filter);
-        Stream<T> stream = getDataProvider().fetch(query);
+        QuerySnapshot<T> query = getAsyncQuery();
+        if (query != null) {
+            return doFetchFromDataProvider(query.provider, offset, limitedTo,
+                    query.sortOrders, query.comparator, query.filter);
+        }
+        return doFetchFromDataProvider(getDataProvider(), offset, limitedTo,
+                backEndSorting, inMemorySorting, filter);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private Stream<T> doFetchFromDataProvider(DataProvider provider,
+            int offset, int limitedTo, List<QuerySortOrder> sortOrders,
+            SerializableComparator<T> comparator, Object currentFilter) {
+        QueryTrace query = new QueryTrace(offset, limitedTo, sortOrders,
+                comparator, currentFilter);
+        Stream<T> stream = provider.fetch(query);
         verifyQueryContract(query);
         return stream;
     }
@@ -861,7 +1271,7 @@ public class DataCommunicator<T> implements Serializable {
 
         // With defined size the backend is only queried when necessary
         if (definedSize && (resendEntireRange || sizeReset)) {
-            assumedSize = getDataProviderSize();
+            assumedSize = getItemCountWithCache();
         } else if (!definedSize
                 && (!skipCountIncreaseUntilReset || sizeReset)) {
             // with undefined size, size estimate is checked when scrolling down
@@ -873,13 +1283,99 @@ public class DataCommunicator<T> implements Serializable {
         resendEntireRange |= !(previousActive.intersects(effectiveRequested)
                 || (previousActive.isEmpty() && effectiveRequested.isEmpty()));
 
+        UI ui = getUI();
+        if (executor != null && ui != null) {
+            flushAsync(ui, oldActive, previousActive, effectiveRequested);
+            return;
+        }
+
         Activation activation = collectKeysToFlush(previousActive,
-                effectiveRequested);
+                effectiveRequested, range -> fetchFromProvider(
+                        range.getStart(), range.length()));
+        completeFlush(oldActive, previousActive, effectiveRequested,
+                activation);
+    }
+
+    /**
+     * Fetches the items for the effective requested range in a background
+     * thread and completes the flush in {@link UI#access} once all items have
+     * been fetched.
+     */
+    private void flushAsync(UI ui, Set<String> oldActive,
+            Range previousActive, Range effectiveRequested) {
+        final int generation = ++fetchGeneration;
+
+        List<Range> ranges = new ArrayList<>(2);
+        if (resendEntireRange) {
+            ranges.add(effectiveRequested);
+        } else {
+            Range[] partitionWith = effectiveRequested
+                    .partitionWith(previousActive);
+            ranges.add(partitionWith[0]);
+            ranges.add(partitionWith[2]);
+        }
+        Map<Range, CompletableFuture<List<T>>> fetches = new HashMap<>();
+        for (Range range : ranges) {
+            if (!range.isEmpty()) {
+                fetches.put(range,
+                        fetchFromProviderAsync(range.getStart(), range.length()));
+            }
+        }
+        prefetchNextPage(previousActive, effectiveRequested);
+
+        Command completion = () -> {
+            if (generation != fetchGeneration) {
+                // superseded by a later flush or reset
+                return;
+            }
+            Activation activation = collectKeysToFlush(previousActive,
+                    effectiveRequested, range -> {
+                        CompletableFuture<List<T>> fetch = fetches.get(range);
+                        return fetch != null ? fetch.join().stream()
+                                : fetchFromProvider(range.getStart(),
+                                        range.length());
+                    });
+            completeFlush(oldActive, previousActive, effectiveRequested,
+                    activation);
+        };
+
+        CompletableFuture<Void> allFetches = CompletableFuture
+                .allOf(fetches.values().toArray(new CompletableFuture[0]));
+        if (allFetches.isDone() && !allFetches.isCompletedExceptionally()) {
+            // Nothing to wait for, e.g. only prefetched pages are needed
+            completion.execute();
+            return;
+        }
+        allFetches.whenComplete((ignore, error) -> ui.access(() -> {
+            if (error != null && generation == fetchGeneration) {
+                Throwable cause = error instanceof CompletionException
+                        ? error.getCause()
+                        : error;
+                throw cause instanceof RuntimeException
+                        ? (RuntimeException) cause
+                        : new IllegalStateException(
+                                "Unable to fetch items from the data provider",
+                                cause);
+            }
+            completion.execute();
+        }));
+    }
+
+    private UI getUI() {
+        if (stateNode.getOwner() instanceof StateTree) {
+            return ((StateTree) stateNode.getOwner()).getUI();
+        }
+        return null;
+    }
 
+    private void completeFlush(Set<String> oldActive, Range previousActive,
+            Range effectiveRequested, Activation activation) {
         // In case received less items than what was expected, adjust size
         if (activation.isSizeRecheckNeeded()) {
             if (definedSize) {
-                assumedSize = getDataProviderSize();
+                // The count is known to be out of date, so always query it
+                invalidateItemCount();
+                assumedSize = getItemCountWithCache();
             } else {
                 // the end has been reached
                 assumedSize = requestedRange.getStart()
@@ -1037,14 +1533,14 @@ public class DataCommunicator<T> implements Serializable {
     }
 
     private Activation collectKeysToFlush(final Range previousActive,
-            final Range effectiveRequested) {
+            final Range effectiveRequested, Function<Range, Stream<T>> fetcher) {
         /*
          * Collecting all items even though only some small sub range would
          * actually be useful can be optimized away once we have some actual
          * test coverage for the logic here.
          */
         if (resendEntireRange) {
-            return activate(effectiveRequested);
+            return activate(effectiveRequested, fetcher);
         } else {
             List<String> newActiveKeyOrder = new ArrayList<>();
             boolean sizeRecheckNeeded = false;
@@ -1052,7 +1548,7 @@ public class DataCommunicator<T> implements Serializable {
             Range[] partitionWith = effectiveRequested
                     .partitionWith(previousActive);
 
-            Activation activation = activate(partitionWith[0]);
+            Activation activation = activate(partitionWith[0], fetcher);
             newActiveKeyOrder.addAll(activation.getActiveKeys());
             sizeRecheckNeeded |= activation.isSizeRecheckNeeded();
 
@@ -1061,7 +1557,7 @@ public class DataCommunicator<T> implements Serializable {
             newActiveKeyOrder.addAll(activeKeyOrder.subList(overlap.getStart(),
                     overlap.getEnd()));
 
-            activation = activate(partitionWith[2]);
+            activation = activate(partitionWith[2], fetcher);
             newActiveKeyOrder.addAll(activation.getActiveKeys());
             sizeRecheckNeeded |= activation.isSizeRecheckNeeded();
             return new Activation(newActiveKeyOrder, sizeRecheckNeeded);
@@ -1090,14 +1586,14 @@ public class DataCommunicator<T> implements Serializable {
         }
     }
 
-    private Activation activate(Range range) {
+    private Activation activate(Range range, Function<Range, Stream<T>> fetcher) {
         if (range.isEmpty()) {
             return Activation.empty();
         }
 
         // XXX Explicitly refresh anything that is updated
         List<String> activeKeys = new ArrayList<>(range.length());
-        fetchFromProvider(range.getStart(), range.length()).forEach(bean -> {
+        fetcher.apply(range).forEach(bean -> {
             boolean mapperHasKey = keyMapper.has(bean);
             String key = keyMapper.key(bean);
             if (mapperHasKey) {
@@ -22,6 +22,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.data.provider.CompositeDataGenerator;
@@ -189,6 +191,22 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
         return mapper.fetchRootItems(Range.withLength(offset, limit));
     }
 
+    @Override
+    protected CompletableFuture<List<T>> fetchFromProviderAsync(int offset,
+            int limit) {
+        // The hierarchy mapper tracks expanded items and is not safe to use
+        // outside of the session lock, so root items are fetched right away
+        return CompletableFuture.completedFuture(
+                fetchFromProvider(offset, limit).collect(Collectors.toList()));
+    }
+
+    @Override
+    protected boolean isPrefetchEnabled() {
+        // Prefetching would query the hierarchy mapper outside the session
+        // lock, and the pages would not be used anyway
+        return false;
+    }
+
     public void setParentRequestedRange(int start, int length, T parentItem) {
         String parentKey = uniqueKeyProviderSupplier.get().apply(parentItem);
 
@@ -499,6 +517,19 @@ public class HierarchicalDataCommunicator<T> extends DataCommunicator<T> {
         return mapper.getRootSize();
     }
 
+    /**
+     * Item count caching is not supported for hierarchical data, since the
+     * item count also depends on which items are expanded. Calling this method
+     * has no effect and the item count is always queried.
+     *
+     * @param timeout
+     *            not used
+     */
+    @Override
+    public void setItemCountCacheTimeout(long timeout) {
+        // NOOP, the item count changes when items are expanded or collapsed
+    }
+
     @Override
     public void setBackEndSorting(List<QuerySortOrder> sortOrder) {
         if (mapper != null) {
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.data.binder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.data.binder.Binder.Binding;
+import com.vaadin.flow.tests.data.bean.Person;
+
+public class BinderIncrementalValidationTest
+        extends BinderTestBase<Binder<Person>, Person> {
+
+    private AtomicInteger nameValidations = new AtomicInteger();
+    private AtomicInteger ageValidations = new AtomicInteger();
+    private AtomicInteger beanValidations = new AtomicInteger();
+
+    private Binding<Person, String> nameBinding;
+    private Binding<Person, Integer> ageBinding;
+
+    @Before
+    public void setUp() {
+        binder = new Binder<>();
+        binder.setIncrementalValidation(true);
+        item = new Person();
+        item.setFirstName("Johannes");
+        item.setAge(32);
+
+        nameBinding = binder.forField(nameField).withValidator(value -> {
+            nameValidations.incrementAndGet();
+            return !value.isEmpty();
+        }, EMPTY_ERROR_MESSAGE).bind(Person::getFirstName,
+                Person::setFirstName);
+        ageBinding = binder.forField(ageField).withConverter(stringToInteger)
+                .withValidator(value -> {
+                    ageValidations.incrementAndGet();
+                    return value >= 0;
+                }, NEGATIVE_ERROR_MESSAGE)
+                .bind(Person::getAge, Person::setAge);
+    }
+
+    @Test
+    public void validate_unchangedFields_validatorsNotRunAgain() {
+        binder.setBean(item);
+        binder.validate();
+        int names = nameValidations.get();
+        int ages = ageValidations.get();
+
+        binder.validate();
+        binder.validate();
+
+        Assert.assertEquals(names, nameValidations.get());
+        Assert.assertEquals(ages, ageValidations.get());
+    }
+
+    @Test
+    public void validate_changedField_onlyChangedBindingValidated() {
+        binder.setBean(item);
+        binder.validate();
+        int names = nameValidations.get();
+        int ages = ageValidations.get();
+
+        ageField.setValue("-1");
+        Assert.assertTrue(binder.validate().hasErrors());
+
+        Assert.assertEquals(names, nameValidations.get());
+        Assert.assertTrue(ageValidations.get() > ages);
+    }
+
+    @Test
+    public void validate_beanValidatorWithDependencies_onlyRunWhenDependencyChanges() {
+        binder.withValidator((person, context) -> {
+            beanValidations.incrementAndGet();
+            return person.getAge() < 150 ? ValidationResult.ok()
+                    : ValidationResult.error("Too old");
+        }, ageBinding);
+        binder.setBean(item);
+        binder.validate();
+        int beans = beanValidations.get();
+
+        nameField.setValue("Foo");
+        Assert.assertTrue(binder.validate().isOk());
+        Assert.assertEquals(beans, beanValidations.get());
+
+        ageField.setValue("200");
+        Assert.assertTrue(binder.validate().hasErrors());
+        Assert.assertTrue(beanValidations.get() > beans);
+    }
+
+    @Test
+    public void validate_beanValidatorWithoutDependencies_alwaysRun() {
+        binder.withValidator(person -> {
+            beanValidations.incrementAndGet();
+            return true;
+        }, "error");
+        binder.setBean(item);
+        binder.validate();
+        int beans = beanValidations.get();
+
+        binder.validate();
+
+        Assert.assertEquals(beans + 1, beanValidations.get());
+    }
+
+    @Test
+    public void clearValidationCache_validatorsRunAgain() {
+        binder.setBean(item);
+        binder.validate();
+        int names = nameValidations.get();
+
+        binder.clearValidationCache();
+        binder.validate();
+
+        Assert.assertEquals(names + 1, nameValidations.get());
+    }
+
+    @Test
+    public void incrementalValidationDisabled_validatorsAlwaysRun() {
+        binder.setIncrementalValidation(false);
+        binder.setBean(item);
+        binder.validate();
+        int names = nameValidations.get();
+
+        binder.validate();
+
+        Assert.assertEquals(names + 1, nameValidations.get());
+    }
+}
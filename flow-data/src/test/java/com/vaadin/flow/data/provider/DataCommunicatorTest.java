@@ -16,8 +16,13 @@
 package com.vaadin.flow.data.provider;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -33,6 +38,7 @@ import com.vaadin.flow.component.UI;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.function.SerializableConsumer;
 import com.vaadin.flow.internal.Range;
+import com.vaadin.flow.server.Command;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
@@ -107,6 +113,8 @@ public class DataCommunicatorTest {
     public int lastUpdateId = -1;
     private int pageSize;
 
+    private final AtomicLong currentTimeMillis = new AtomicLong();
+
     @Before
     public void init() {
         MockitoAnnotations.initMocks(this);
@@ -1251,6 +1259,225 @@ public class DataCommunicatorTest {
         return dataCommunicator.getPageSize() * 4;
     }
 
+    @Test
+    public void pushUpdates_itemsFetchedInExecutor_appliedThroughUiAccess() {
+        List<Runnable> tasks = new ArrayList<>();
+        AtomicInteger accessCount = new AtomicInteger();
+        setUpPushUpdates(tasks, accessCount, createDataProvider(200));
+
+        dataCommunicator.setRequestedRange(0, 100);
+        fakeClientCommunication();
+
+        Assert.assertNull("Items should not be sent before they are fetched",
+                lastSet);
+        // Two pages for the requested range and one prefetched page
+        Assert.assertEquals(3, tasks.size());
+
+        new ArrayList<>(tasks).forEach(Runnable::run);
+
+        Assert.assertEquals(Range.withLength(0, 100), lastSet);
+        Assert.assertEquals(1, accessCount.get());
+    }
+
+    @Test
+    public void pushUpdates_scrollDown_prefetchedPageReused() {
+        List<Runnable> tasks = new ArrayList<>();
+        AtomicInteger accessCount = new AtomicInteger();
+        setUpPushUpdates(tasks, accessCount, createDataProvider(200));
+
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+        new ArrayList<>(tasks).forEach(Runnable::run);
+        tasks.clear();
+        Assert.assertEquals(Range.withLength(0, 50), lastSet);
+
+        dataCommunicator.setRequestedRange(0, 100);
+        fakeClientCommunication();
+
+        // The page is applied right away and only the next one is prefetched
+        Assert.assertEquals(Range.withLength(50, 50), lastSet);
+        Assert.assertEquals(1, tasks.size());
+        Assert.assertEquals(1, accessCount.get());
+    }
+
+    @Test
+    public void pushUpdates_fetchFromProviderOverridden_overrideUsedInExecutor() {
+        List<Runnable> tasks = new ArrayList<>();
+        AtomicInteger accessCount = new AtomicInteger();
+        setUpPushUpdates(tasks, accessCount, createDataProvider(200));
+        List<Integer> fetchedOffsets = new ArrayList<>();
+        dataCommunicator = new DataCommunicator<Item>(dataGenerator,
+                arrayUpdater, data -> {
+                }, element.getNode()) {
+            @Override
+            protected Stream<Item> fetchFromProvider(int offset, int limit) {
+                fetchedOffsets.add(offset);
+                return super.fetchFromProvider(offset, limit);
+            }
+        };
+        dataCommunicator.setPageSize(50);
+        dataCommunicator.enablePushUpdates(tasks::add);
+        dataCommunicator.setDataProvider(createDataProvider(200), null);
+        fakeClientCommunication();
+        tasks.clear();
+        lastSet = null;
+
+        dataCommunicator.setRequestedRange(0, 100);
+        fakeClientCommunication();
+        Assert.assertTrue(fetchedOffsets.isEmpty());
+
+        new ArrayList<>(tasks).forEach(Runnable::run);
+
+        Assert.assertEquals(Arrays.asList(0, 50, 100), fetchedOffsets);
+        Assert.assertEquals(Range.withLength(0, 100), lastSet);
+    }
+
+    @Test
+    public void pushUpdates_scrollUp_nothingPrefetched() {
+        List<Runnable> tasks = new ArrayList<>();
+        AtomicInteger accessCount = new AtomicInteger();
+        setUpPushUpdates(tasks, accessCount, createDataProvider(300));
+
+        dataCommunicator.setRequestedRange(150, 50);
+        fakeClientCommunication();
+        new ArrayList<>(tasks).forEach(Runnable::run);
+        tasks.clear();
+
+        dataCommunicator.setRequestedRange(100, 50);
+        fakeClientCommunication();
+
+        // Only the requested page is fetched
+        Assert.assertEquals(1, tasks.size());
+    }
+
+    @Test
+    public void pushUpdates_resetBeforeFetchCompletes_resultIgnored() {
+        List<Runnable> tasks = new ArrayList<>();
+        AtomicInteger accessCount = new AtomicInteger();
+        setUpPushUpdates(tasks, accessCount, createDataProvider(200));
+
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+        dataCommunicator.reset();
+
+        new ArrayList<>(tasks).forEach(Runnable::run);
+
+        Assert.assertEquals(1, accessCount.get());
+        Assert.assertNull("Superseded fetch should not be applied", lastSet);
+    }
+
+    @Test
+    public void itemCountCache_resetWithinTimeout_countNotQueriedAgain() {
+        AbstractDataProvider<Item, Object> dataProvider = Mockito
+                .spy(createDataProvider(100));
+        dataCommunicator.setItemCountCacheTimeout(60000);
+        dataCommunicator.setDataProvider(dataProvider, null);
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+
+        dataCommunicator.reset();
+        fakeClientCommunication();
+
+        Assert.assertEquals(100, dataCommunicator.getItemCount());
+        Mockito.verify(dataProvider, Mockito.times(1))
+                .size(Mockito.any(Query.class));
+    }
+
+    @Test
+    public void itemCountCache_filterChanged_countQueriedAgain() {
+        AbstractDataProvider<Item, Object> dataProvider = Mockito
+                .spy(createDataProvider(100));
+        dataCommunicator.setItemCountCacheTimeout(60000);
+        SerializableConsumer<Object> filterSlot = dataCommunicator
+                .setDataProvider(dataProvider, null);
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+
+        filterSlot.accept("filter");
+        fakeClientCommunication();
+
+        Mockito.verify(dataProvider, Mockito.times(2))
+                .size(Mockito.any(Query.class));
+    }
+
+    @Test
+    public void itemCountCache_expiredWithPushUpdates_staleCountUsedAndCorrected() {
+        AtomicInteger size = new AtomicInteger(100);
+        List<Runnable> tasks = new ArrayList<>();
+        AtomicInteger accessCount = new AtomicInteger();
+        setUpPushUpdates(tasks, accessCount,
+                new AbstractDataProvider<Item, Object>() {
+                    @Override
+                    public boolean isInMemory() {
+                        return true;
+                    }
+
+                    @Override
+                    public int size(Query<Item, Object> query) {
+                        return size.get();
+                    }
+
+                    @Override
+                    public Stream<Item> fetch(Query<Item, Object> query) {
+                        int end = Math.min(query.getRequestedRangeEnd(),
+                                size.get());
+                        return IntStream.range(query.getOffset(), end)
+                                .mapToObj(Item::new);
+                    }
+                });
+        dataCommunicator.setItemCountCacheTimeout(1);
+        dataCommunicator.setRequestedRange(0, 50);
+        fakeClientCommunication();
+        new ArrayList<>(tasks).forEach(Runnable::run);
+        tasks.clear();
+
+        size.set(150);
+        currentTimeMillis.addAndGet(10);
+        dataCommunicator.reset();
+        fakeClientCommunication();
+
+        // The stale count is used while the new count is being fetched
+        Assert.assertEquals(100, dataCommunicator.getItemCount());
+        Mockito.verify(arrayUpdater, Mockito.never()).startUpdate(150);
+
+        new ArrayList<>(tasks).forEach(Runnable::run);
+        tasks.clear();
+        fakeClientCommunication();
+        new ArrayList<>(tasks).forEach(Runnable::run);
+
+        Assert.assertEquals(150, dataCommunicator.getItemCount());
+        Mockito.verify(arrayUpdater).startUpdate(150);
+    }
+
+    private void setUpPushUpdates(List<Runnable> tasks,
+            AtomicInteger accessCount,
+            DataProvider<Item, Object> dataProvider) {
+        ui = new MockUI() {
+            @Override
+            public Future<Void> access(Command command) {
+                accessCount.incrementAndGet();
+                command.execute();
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+        element = new Element("div");
+        ui.getElement().appendChild(element);
+
+        dataCommunicator = new DataCommunicator<Item>(dataGenerator,
+                arrayUpdater, data -> {
+                }, element.getNode()) {
+            @Override
+            long getCurrentTimeMillis() {
+                return currentTimeMillis.get();
+            }
+        };
+        dataCommunicator.setPageSize(50);
+        dataCommunicator.enablePushUpdates(tasks::add);
+        dataCommunicator.setDataProvider(dataProvider, null);
+        fakeClientCommunication();
+        lastSet = null;
+    }
+
     private void fakeClientCommunication() {
         ui.getInternals().getStateTree().runExecutionsBeforeClientResponse();
         ui.getInternals().getStateTree().collectChanges(ignore -> {
@@ -36,6 +36,7 @@ import com.vaadin.flow.data.provider.CompositeDataGenerator;
 import com.vaadin.flow.data.provider.hierarchy.HierarchicalArrayUpdater.HierarchicalUpdate;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.internal.ExecutionContext;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.StateTree;
 import com.vaadin.flow.internal.nodefeature.ComponentMapping;
@@ -176,6 +177,48 @@ public class HierarchicalCommunicatorTest {
                 .beforeClientResponse(Mockito.any(), Mockito.any());
     }
 
+    @Test
+    public void setItemCountCacheTimeout_hasNoEffect() {
+        communicator.setItemCountCacheTimeout(60000);
+
+        assertEquals(0, communicator.getItemCountCacheTimeout());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void pushUpdatesEnabled_rootItemsFetched_nothingRunInExecutor() {
+        for (int i = 0; i < 2 * pageSize; i++) {
+            treeData.addItems(null, "item-" + i);
+        }
+        Mockito.when(stateNode.getOwner()).thenReturn(stateTree);
+        Mockito.when(stateTree.getUI()).thenReturn(ui);
+        List<SerializableConsumer<ExecutionContext>> flushRequests = new ArrayList<>();
+        Mockito.doAnswer(invocation -> {
+            ((SerializableConsumer<UI>) invocation.getArguments()[0])
+                    .accept(ui);
+            return null;
+        }).when(stateNode).runWhenAttached(Mockito.any());
+        Mockito.doAnswer(invocation -> {
+            flushRequests.add((SerializableConsumer<ExecutionContext>) invocation
+                    .getArguments()[1]);
+            return null;
+        }).when(stateTree).beforeClientResponse(Mockito.any(), Mockito.any());
+        List<Runnable> tasks = new ArrayList<>();
+        communicator.enablePushUpdates(tasks::add);
+
+        ExecutionContext context = new ExecutionContext(ui, true);
+        communicator.setRequestedRange(0, pageSize);
+        new ArrayList<>(flushRequests).forEach(flush -> flush.accept(context));
+        flushRequests.clear();
+
+        communicator.setRequestedRange(pageSize, pageSize);
+        new ArrayList<>(flushRequests).forEach(flush -> flush.accept(context));
+
+        Assert.assertTrue(
+                "The hierarchy mapper should not be used in the executor",
+                tasks.isEmpty());
+    }
+
     @Test
     public void replaceAll() {
         // Some modifications
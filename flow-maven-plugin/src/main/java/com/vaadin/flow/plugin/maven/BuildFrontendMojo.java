@@ -19,10 +19,12 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -41,13 +43,19 @@ import org.apache.maven.project.MavenProject;
 import com.vaadin.flow.component.dependency.JavaScript;
 import com.vaadin.flow.component.dependency.JsModule;
 import com.vaadin.flow.component.dependency.NpmPackage;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.router.RouteAlias;
 import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.ExecutionFailedException;
 import com.vaadin.flow.server.frontend.FrontendTools;
 import com.vaadin.flow.server.frontend.FrontendUtils;
 import com.vaadin.flow.server.frontend.NodeTasks;
+import com.vaadin.flow.server.frontend.scanner.ClassFinder;
+import com.vaadin.flow.server.startup.RouteRegistryInitializer;
 import com.vaadin.flow.theme.Theme;
 
+import elemental.json.Json;
+import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 import elemental.json.impl.JsonUtil;
 
@@ -55,6 +63,7 @@ import static com.vaadin.flow.plugin.common.FlowPluginFrontendUtils.getClassFind
 import static com.vaadin.flow.server.Constants.FRONTEND_TOKEN;
 import static com.vaadin.flow.server.Constants.GENERATED_TOKEN;
 import static com.vaadin.flow.server.Constants.NPM_TOKEN;
+import static com.vaadin.flow.server.Constants.ROUTE_INDEX_TOKEN;
 import static com.vaadin.flow.server.Constants.SERVLET_PARAMETER_ENABLE_DEV_SERVER;
 import static com.vaadin.flow.server.Constants.CONNECT_JAVA_SOURCE_FOLDER_TOKEN;
 import static com.vaadin.flow.server.Constants.CONNECT_APPLICATION_PROPERTIES_TOKEN;
@@ -124,12 +133,13 @@ public class BuildFrontendMojo extends FlowModeAbstractMojo {
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
-        updateBuildFile();
+        ClassFinder classFinder = getClassFinder(project);
+        updateBuildFile(classFinder);
 
         long start = System.nanoTime();
 
         try {
-            runNodeUpdater();
+            runNodeUpdater(classFinder);
         } catch (ExecutionFailedException exception) {
             throw new MojoFailureException(
                     "Could not execute build-frontend goal", exception);
@@ -148,7 +158,8 @@ public class BuildFrontendMojo extends FlowModeAbstractMojo {
         getLog().info("update-frontend took " + ms + "ms.");
     }
 
-    private void runNodeUpdater() throws ExecutionFailedException, MojoExecutionException {
+    private void runNodeUpdater(ClassFinder classFinder)
+            throws ExecutionFailedException, MojoExecutionException {
         Set<File> jarFiles = project.getArtifacts().stream()
                 .filter(artifact -> "jar".equals(artifact.getType()))
                 .map(Artifact::getFile).collect(Collectors.toSet());
@@ -162,7 +173,7 @@ public class BuildFrontendMojo extends FlowModeAbstractMojo {
             throw new MojoExecutionException("Failed to parse " + nodeDownloadRoot, e);
         }
         // @formatter:off
-        new NodeTasks.Builder(getClassFinder(project),
+        new NodeTasks.Builder(classFinder,
                 npmFolder, generatedFolder, frontendDirectory)
                         .runNpmInstall(runNpmInstall)
                         .useV14Bootstrap(useDeprecatedV14Bootstrapping())
@@ -264,9 +275,11 @@ public class BuildFrontendMojo extends FlowModeAbstractMojo {
     /**
      * Add the devMode token to build token file so we don't try to start the
      * dev server. Remove the abstract folder paths as they should not be used
-     * for prebuilt bundles.
+     * for prebuilt bundles. Store the index of the validated route classes so
+     * that they don't need to be validated again on startup.
      */
-    private void updateBuildFile() {
+    private void updateBuildFile(ClassFinder classFinder)
+            throws MojoFailureException {
         File tokenFile = getTokenFile();
         if (!tokenFile.exists()) {
             getLog().warn(
@@ -291,6 +304,7 @@ public class BuildFrontendMojo extends FlowModeAbstractMojo {
             buildInfo.remove(Constants.CONNECT_GENERATED_TS_DIR_TOKEN);
 
             buildInfo.put(SERVLET_PARAMETER_ENABLE_DEV_SERVER, false);
+            updateRouteIndex(buildInfo, classFinder);
             FileUtils.write(tokenFile, JsonUtil.stringify(buildInfo, 2) + "\n",
                     StandardCharsets.UTF_8.name());
         } catch (IOException e) {
@@ -298,6 +312,38 @@ public class BuildFrontendMojo extends FlowModeAbstractMojo {
         }
     }
 
+    private void updateRouteIndex(JsonObject buildInfo,
+            ClassFinder classFinder) throws MojoFailureException {
+        buildInfo.remove(ROUTE_INDEX_TOKEN);
+        try {
+            Set<Class<?>> routeClasses = new HashSet<>(classFinder
+                    .getAnnotatedClasses(Route.class.getName()));
+            routeClasses.addAll(classFinder
+                    .getAnnotatedClasses(RouteAlias.class.getName()));
+            // The route classes are loaded in the project class loader, so
+            // the validation has to run with the flow-server classes there
+            Class<?> initializer = classFinder
+                    .loadClass(RouteRegistryInitializer.class.getName());
+            List<?> routeIndex = (List<?>) initializer
+                    .getMethod("collectRouteIndex", Set.class)
+                    .invoke(null, routeClasses);
+
+            JsonArray index = Json.createArray();
+            for (Object route : routeIndex) {
+                index.set(index.length(), route.toString());
+            }
+            buildInfo.put(ROUTE_INDEX_TOKEN, index);
+        } catch (InvocationTargetException e) {
+            throw new MojoFailureException(
+                    "Invalid route configuration: "
+                            + e.getCause().getMessage(),
+                    e.getCause());
+        } catch (ClassNotFoundException | NoSuchMethodException
+                | IllegalAccessException e) {
+            getLog().debug("Route index is not generated", e);
+        }
+    }
+
     private File getTokenFile() {
         return new File(webpackOutputDirectory, TOKEN_FILE);
     }
@@ -54,6 +54,7 @@ import com.vaadin.flow.plugin.TestUtils;
 import com.vaadin.flow.server.Constants;
 
 import elemental.json.Json;
+import elemental.json.JsonArray;
 import elemental.json.JsonObject;
 import elemental.json.impl.JsonUtil;
 
@@ -398,6 +399,18 @@ public class BuildFrontendMojoTest {
                         + "should have been removed",
                 buildInfo.get(
                         Constants.SERVLET_PARAMETER_DEVMODE_OPTIMIZE_BUNDLE));
+
+        JsonArray routeIndex = buildInfo
+                .getArray(Constants.ROUTE_INDEX_TOKEN);
+        Assert.assertNotNull("route index should have been added",
+                routeIndex);
+        boolean mainViewIndexed = false;
+        for (int i = 0; i < routeIndex.length(); i++) {
+            mainViewIndexed |= TestComponents.MainView.class.getName()
+                    .equals(routeIndex.getString(i));
+        }
+        Assert.assertTrue("MainView should be in the route index",
+                mainViewIndexed);
     }
 
     @Test
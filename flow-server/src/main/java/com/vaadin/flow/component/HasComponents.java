@@ -49,11 +49,13 @@ public interface HasComponents extends HasElement, HasEnabled {
      */
     default void add(Component... components) {
         Objects.requireNonNull(components, "Components should not be null");
-        for (Component component : components) {
-            Objects.requireNonNull(component,
+        Element[] elements = new Element[components.length];
+        for (int i = 0; i < components.length; i++) {
+            Objects.requireNonNull(components[i],
                     "Component to add cannot be null");
-            getElement().appendChild(component.getElement());
+            elements[i] = components[i].getElement();
         }
+        getElement().appendChild(elements);
     }
 
     /**
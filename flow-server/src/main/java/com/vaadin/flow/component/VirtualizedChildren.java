@@ -0,0 +1,309 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.dom.Element;
+import com.vaadin.flow.function.SerializableFunction;
+import com.vaadin.flow.internal.Range;
+
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
+
+/**
+ * Keeps only the children of a container that are inside the range of items
+ * visible on the client side attached to the container, instead of a child
+ * component for every item.
+ * <p>
+ * Child components are created for the items in the requested range when the
+ * range is set and removed again when they leave the range, so the number of
+ * state nodes in the UI does not grow with the number of items. The range is
+ * updated by the client through a {@value #VIEWPORT_CHANGED_EVENT} DOM event
+ * with <code>start</code> and <code>length</code> in the event detail, or by
+ * calling {@link #setRequestedRange(int, int)} directly.
+ * <p>
+ * The number of items is set as the {@value #ITEM_COUNT_PROPERTY} property and
+ * the index of the first child as the {@value #FIRST_INDEX_PROPERTY} property
+ * of the container element, so that the client side can reserve space for the
+ * items without a child element.
+ * <p>
+ * The container should not have any other children, since the children of the
+ * container element are replaced when the range changes.
+ *
+ * @param <T>
+ *            the item type
+ */
+public class VirtualizedChildren<T> implements Serializable {
+
+    /**
+     * The name of the DOM event used by the client side to report the visible
+     * range.
+     */
+    public static final String VIEWPORT_CHANGED_EVENT = "viewport-changed";
+
+    /**
+     * The name of the element property containing the number of items.
+     */
+    public static final String ITEM_COUNT_PROPERTY = "virtualizedItemCount";
+
+    /**
+     * The name of the element property containing the index of the item of
+     * the first child element.
+     */
+    public static final String FIRST_INDEX_PROPERTY = "virtualizedFirstIndex";
+
+    /**
+     * The default maximum number of items in the requested range.
+     */
+    public static final int DEFAULT_MAXIMUM_RANGE_LENGTH = 500;
+
+    private static final String START_DATA = "event.detail.start";
+    private static final String LENGTH_DATA = "event.detail.length";
+
+    private final HasElement container;
+    private final SerializableFunction<T, ? extends Component> componentFactory;
+
+    private List<T> items = Collections.emptyList();
+
+    private int requestedStart;
+    private int requestedLength;
+    private int maximumRangeLength = DEFAULT_MAXIMUM_RANGE_LENGTH;
+
+    // Components for the items of the materialized range, in item order
+    private final List<Component> children = new ArrayList<>();
+    private int firstIndex;
+
+    /**
+     * Creates a new instance for the given container.
+     *
+     * @param container
+     *            the container to add the child components to, not
+     *            <code>null</code>
+     * @param componentFactory
+     *            the function to create a child component for an item, not
+     *            <code>null</code>
+     */
+    public VirtualizedChildren(HasElement container,
+            SerializableFunction<T, ? extends Component> componentFactory) {
+        this.container = Objects.requireNonNull(container,
+                "Container cannot be null");
+        this.componentFactory = Objects.requireNonNull(componentFactory,
+                "Component factory cannot be null");
+
+        Element element = container.getElement();
+        element.setProperty(ITEM_COUNT_PROPERTY, 0);
+        element.setProperty(FIRST_INDEX_PROPERTY, 0);
+        element.addEventListener(VIEWPORT_CHANGED_EVENT,
+                event -> onViewportChanged(event.getEventData()))
+                .addEventData(START_DATA).addEventData(LENGTH_DATA);
+    }
+
+    /**
+     * Sets the items to show. Child components created for the previous items
+     * are removed, and new child components are created for the items in the
+     * requested range.
+     *
+     * @param items
+     *            the items to show, not <code>null</code>
+     */
+    public void setItems(List<T> items) {
+        Objects.requireNonNull(items, "Items cannot be null");
+
+        removeChildren(children.size(), false);
+        this.items = new ArrayList<>(items);
+        container.getElement().setProperty(ITEM_COUNT_PROPERTY,
+                this.items.size());
+        update();
+    }
+
+    /**
+     * Gets the number of items.
+     *
+     * @return the number of items
+     */
+    public int getItemCount() {
+        return items.size();
+    }
+
+    /**
+     * Sets the range of items that should have a child component. The range is
+     * limited to the available items and to the
+     * {@link #setMaximumRangeLength(int) maximum range length}.
+     *
+     * @param start
+     *            the index of the first item in the range
+     * @param length
+     *            the number of items in the range
+     */
+    public void setRequestedRange(int start, int length) {
+        if (start < 0 || length < 0) {
+            throw new IllegalArgumentException(
+                    "Start and length cannot be negative");
+        }
+        if (length > maximumRangeLength) {
+            LoggerFactory.getLogger(VirtualizedChildren.class).warn(
+                    "Attempted to request more items than allowed in one go: "
+                            + "number of items requested '{}', maximum items "
+                            + "allowed '{}'",
+                    length, maximumRangeLength);
+            length = maximumRangeLength;
+        }
+        requestedStart = start;
+        requestedLength = length;
+        update();
+    }
+
+    /**
+     * Sets the maximum number of items in the requested range. Longer ranges,
+     * e.g. reported by a misbehaving client, are limited to this length so that
+     * a child component isn't created for an arbitrary number of items. The
+     * default is {@value #DEFAULT_MAXIMUM_RANGE_LENGTH}.
+     * <p>
+     * The new maximum is applied to ranges requested after this call.
+     *
+     * @param maximumRangeLength
+     *            the maximum number of items in the requested range, not
+     *            negative
+     */
+    public void setMaximumRangeLength(int maximumRangeLength) {
+        if (maximumRangeLength < 0) {
+            throw new IllegalArgumentException(
+                    "Maximum range length cannot be negative");
+        }
+        this.maximumRangeLength = maximumRangeLength;
+    }
+
+    /**
+     * Gets the maximum number of items in the requested range.
+     *
+     * @return the maximum number of items in the requested range
+     * @see #setMaximumRangeLength(int)
+     */
+    public int getMaximumRangeLength() {
+        return maximumRangeLength;
+    }
+
+    /**
+     * Gets the range of items that currently have a child component.
+     *
+     * @return the materialized range
+     */
+    public Range getMaterializedRange() {
+        return Range.withLength(firstIndex, children.size());
+    }
+
+    /**
+     * Gets the child component of the item with the given index, if the item
+     * is inside the materialized range.
+     *
+     * @param index
+     *            the index of the item
+     * @return the child component of the item, or an empty optional if the
+     *         item doesn't have a child component
+     */
+    public Optional<Component> getComponent(int index) {
+        if (index < firstIndex || index >= firstIndex + children.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(children.get(index - firstIndex));
+    }
+
+    private void onViewportChanged(JsonObject eventData) {
+        // The range is sent by the client, so invalid values are ignored or
+        // clamped instead of failing the request
+        if (!isNumber(eventData, START_DATA)
+                || !isNumber(eventData, LENGTH_DATA)) {
+            LoggerFactory.getLogger(VirtualizedChildren.class)
+                    .debug("Ignoring a viewport change without a range");
+            return;
+        }
+        setRequestedRange(Math.max(0, (int) eventData.getNumber(START_DATA)),
+                Math.max(0, (int) eventData.getNumber(LENGTH_DATA)));
+    }
+
+    private static boolean isNumber(JsonObject json, String key) {
+        return json.hasKey(key)
+                && json.get(key).getType() == JsonType.NUMBER;
+    }
+
+    private void update() {
+        int start = Math.min(requestedStart, items.size());
+        int end = (int) Math.min((long) start + requestedLength,
+                items.size());
+
+        // Children outside of the new range
+        int leading = Math.max(0,
+                Math.min(start, firstIndex + children.size()) - firstIndex);
+        removeChildren(leading, false);
+        firstIndex += leading;
+        int trailing = Math.max(0,
+                firstIndex + children.size() - Math.max(end, firstIndex));
+        removeChildren(trailing, true);
+
+        if (children.isEmpty()) {
+            firstIndex = start;
+        }
+
+        // Items of the new range without a child
+        Element element = container.getElement();
+        if (start < firstIndex) {
+            List<Component> added = createChildren(start, firstIndex);
+            children.addAll(0, added);
+            element.insertChild(0, toElements(added));
+            firstIndex = start;
+        }
+        int childrenEnd = firstIndex + children.size();
+        if (end > childrenEnd) {
+            List<Component> added = createChildren(childrenEnd, end);
+            children.addAll(added);
+            element.appendChild(toElements(added));
+        }
+
+        element.setProperty(FIRST_INDEX_PROPERTY, firstIndex);
+    }
+
+    private List<Component> createChildren(int start, int end) {
+        List<Component> created = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            created.add(componentFactory.apply(items.get(i)));
+        }
+        return created;
+    }
+
+    private void removeChildren(int count, boolean fromEnd) {
+        if (count == 0) {
+            return;
+        }
+        List<Component> removed = fromEnd
+                ? children.subList(children.size() - count, children.size())
+                : children.subList(0, count);
+        container.getElement().removeChild(toElements(removed));
+        removed.clear();
+    }
+
+    private static Element[] toElements(List<Component> components) {
+        return components.stream().map(Component::getElement)
+                .toArray(Element[]::new);
+    }
+}
@@ -585,6 +585,16 @@ public class UIInternals implements Serializable {
                 .filter(invocation -> !invocation.isCanceled());
     }
 
+    /**
+     * Gets the number of pending javascript invocations which have not yet
+     * been sent to the client.
+     *
+     * @return the number of pending javascript invocations
+     */
+    public int getPendingJavaScriptInvocationCount() {
+        return (int) getPendingJavaScriptInvocations().count();
+    }
+
     /**
      * Records the page title set with {@link Page#setTitle(String)}.
      * <p>
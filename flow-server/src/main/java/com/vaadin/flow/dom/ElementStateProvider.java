@@ -16,6 +16,7 @@
 package com.vaadin.flow.dom;
 
 import java.io.Serializable;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -162,6 +163,27 @@ public interface ElementStateProvider extends Serializable {
      */
     void insertChild(StateNode node, int index, Element child);
 
+    /**
+     * Inserts the given children at the given position. None of the children
+     * may have a parent.
+     * <p>
+     * The default implementation inserts the children one by one using
+     * {@link #insertChild(StateNode, int, Element)}.
+     *
+     * @param node
+     *            the node containing the data
+     * @param index
+     *            the position at which to insert the first new child
+     * @param children
+     *            the child elements to insert, in order
+     */
+    default void insertChildren(StateNode node, int index,
+            List<Element> children) {
+        for (int i = 0; i < children.size(); i++) {
+            insertChild(node, index + i, children.get(i));
+        }
+    }
+
     /**
      * Removes the child at the given position.
      *
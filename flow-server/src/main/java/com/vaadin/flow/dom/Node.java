@@ -16,8 +16,11 @@
 package com.vaadin.flow.dom;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -272,6 +275,16 @@ public abstract class Node<N extends Node<N>> implements Serializable {
                     index, getChildCount()));
         }
 
+        if (children.length > 1 && isDetachedBatch(children)) {
+            // Insert all children with one splice change
+            getStateProvider().insertChildren(node, index,
+                    Arrays.asList(children));
+            for (Element child : children) {
+                ensureChildHasParent(child, true);
+            }
+            return getSelf();
+        }
+
         for (int i = 0, insertIndex = index; i < children.length; i++, insertIndex++) {
             Element child = children[i];
             if (child == null) {
@@ -298,6 +311,21 @@ public abstract class Node<N extends Node<N>> implements Serializable {
         return getSelf();
     }
 
+    /**
+     * Checks whether the given children can be inserted in one operation, i.e.
+     * none of them is <code>null</code>, has a parent or is included twice.
+     */
+    private static boolean isDetachedBatch(Element[] children) {
+        Set<StateNode> nodes = new HashSet<>();
+        for (Element child : children) {
+            if (child == null || child.getParentNode() != null
+                    || !nodes.add(child.getNode())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns the index of the specified {@code child} in the children list, or
      * -1 if this list does not contain the {@code child}.
@@ -15,7 +15,9 @@
  */
 package com.vaadin.flow.dom.impl;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import com.vaadin.flow.dom.ChildElementConsumer;
 import com.vaadin.flow.dom.Element;
@@ -102,6 +104,16 @@ public abstract class AbstractNodeStateProvider
         getChildrenFeature(node).add(index, child.getNode());
     }
 
+    @Override
+    public void insertChildren(StateNode node, int index,
+            List<Element> children) {
+        assert index >= 0;
+        assert index <= getChildCount(node); // == if adding as last
+
+        getChildrenFeature(node).addAll(index, children.stream()
+                .map(Element::getNode).collect(Collectors.toList()));
+    }
+
     @Override
     public void removeChild(StateNode node, int index) {
         assert index >= 0;
@@ -312,12 +312,12 @@ public class BasicElementStateProvider extends AbstractNodeStateProvider {
 
     @Override
     public ClassList getClassList(StateNode node) {
-        return node.getFeature(ElementClassList.class).getClassList();
+        return ElementClassList.getClassList(node);
     }
 
     @Override
     public Style getStyle(StateNode node) {
-        return node.getFeature(ElementStylePropertyMap.class).getStyle();
+        return new BasicElementStyle(node);
     }
 
     @Override
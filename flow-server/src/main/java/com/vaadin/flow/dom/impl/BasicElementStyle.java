@@ -15,11 +15,13 @@
  */
 package com.vaadin.flow.dom.impl;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import com.vaadin.flow.dom.ElementUtil;
 import com.vaadin.flow.dom.Style;
 import com.vaadin.flow.dom.StyleUtil;
+import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.nodefeature.ElementStylePropertyMap;
 
 /**
@@ -30,6 +32,7 @@ import com.vaadin.flow.internal.nodefeature.ElementStylePropertyMap;
  */
 public class BasicElementStyle implements Style {
 
+    private final StateNode node;
     private ElementStylePropertyMap propertyMap;
 
     /**
@@ -39,9 +42,39 @@ public class BasicElementStyle implements Style {
      *            the feature where the data is stored
      */
     public BasicElementStyle(ElementStylePropertyMap propertyMap) {
+        node = propertyMap.getNode();
         this.propertyMap = propertyMap;
     }
 
+    /**
+     * Creates an instance connected to the style map of the given node. The
+     * style map feature is initialized only when a style property is set, so
+     * reading the style of an element without any inline styles doesn't
+     * allocate a feature.
+     *
+     * @param node
+     *            the node where the data is stored
+     */
+    public BasicElementStyle(StateNode node) {
+        this.node = node;
+    }
+
+    private ElementStylePropertyMap getPropertyMap() {
+        if (propertyMap == null) {
+            propertyMap = node.getFeature(ElementStylePropertyMap.class);
+        }
+        return propertyMap;
+    }
+
+    private Optional<ElementStylePropertyMap> getPropertyMapIfInitialized() {
+        if (propertyMap == null) {
+            propertyMap = node
+                    .getFeatureIfInitialized(ElementStylePropertyMap.class)
+                    .orElse(null);
+        }
+        return Optional.ofNullable(propertyMap);
+    }
+
     @Override
     public Style set(String name, String value) {
         ElementUtil.validateStylePropertyName(name);
@@ -51,7 +84,7 @@ public class BasicElementStyle implements Style {
         String trimmedValue = value.trim();
         ElementUtil.validateStylePropertyValue(trimmedValue);
 
-        propertyMap.setProperty(StyleUtil.stylePropertyToAttribute(name),
+        getPropertyMap().setProperty(StyleUtil.stylePropertyToAttribute(name),
                 trimmedValue, true);
         return this;
     }
@@ -60,13 +93,15 @@ public class BasicElementStyle implements Style {
     public Style remove(String name) {
         ElementUtil.validateStylePropertyName(name);
 
-        propertyMap.removeProperty(StyleUtil.stylePropertyToAttribute(name));
+        getPropertyMapIfInitialized().ifPresent(map -> map
+                .removeProperty(StyleUtil.stylePropertyToAttribute(name)));
         return this;
     }
 
     @Override
     public Style clear() {
-        propertyMap.removeAllProperties();
+        getPropertyMapIfInitialized()
+                .ifPresent(ElementStylePropertyMap::removeAllProperties);
         return this;
     }
 
@@ -74,18 +109,24 @@ public class BasicElementStyle implements Style {
     public String get(String name) {
         ElementUtil.validateStylePropertyName(name);
 
-        return (String) propertyMap
-                .getProperty(StyleUtil.stylePropertyToAttribute(name));
+        return (String) getPropertyMapIfInitialized()
+                .map(map -> map.getProperty(
+                        StyleUtil.stylePropertyToAttribute(name)))
+                .orElse(null);
     }
 
     @Override
     public Stream<String> getNames() {
-        return propertyMap.getPropertyNames();
+        return getPropertyMapIfInitialized()
+                .map(ElementStylePropertyMap::getPropertyNames)
+                .orElseGet(Stream::empty);
     }
 
     @Override
     public boolean has(String name) {
-        return propertyMap
-                .hasProperty(StyleUtil.stylePropertyToAttribute(name));
+        return getPropertyMapIfInitialized()
+                .map(map -> map.hasProperty(
+                        StyleUtil.stylePropertyToAttribute(name)))
+                .orElse(false);
     }
 }
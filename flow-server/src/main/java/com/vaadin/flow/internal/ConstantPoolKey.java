@@ -19,6 +19,9 @@ import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import elemental.json.JsonObject;
 import elemental.json.JsonValue;
@@ -36,6 +39,23 @@ import elemental.json.JsonValue;
  * @since 1.0
  */
 public class ConstantPoolKey implements Serializable {
+    /**
+     * The maximum number of keys kept by {@link #intern(JsonValue)}. The least
+     * recently used keys are evicted.
+     */
+    static final int INTERNED_KEYS_LIMIT = 1000;
+
+    // Shared by all UIs to calculate the hash of each constant only once
+    private static final Map<String, ConstantPoolKey> INTERNED_KEYS = Collections
+            .synchronizedMap(
+                    new LinkedHashMap<String, ConstantPoolKey>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(
+                                Map.Entry<String, ConstantPoolKey> eldest) {
+                            return size() > INTERNED_KEYS_LIMIT;
+                        }
+                    });
+
     private final JsonValue json;
     private final String id;
 
@@ -54,6 +74,53 @@ public class ConstantPoolKey implements Serializable {
         id = calculateHash(json);
     }
 
+    /**
+     * Gets a shared constant pool key for the given JSON value. Values with the
+     * same JSON representation get the same key instance, so that the hash of
+     * frequently used values, such as the settings of common DOM event
+     * listeners, is calculated only once instead of once per node, and nodes
+     * with the same value share one key and JSON instance. The JSON
+     * representation of the given value is still created on every call.
+     * <p>
+     * Neither the given value nor the value of the returned key may be
+     * modified, since the key is shared between all sessions.
+     *
+     * @param json
+     *            the JSON constant, not <code>null</code>
+     * @return a constant pool key for the given value, not <code>null</code>
+     */
+    public static ConstantPoolKey intern(JsonValue json) {
+        assert json != null;
+
+        String representation = json.toJson();
+        ConstantPoolKey key = INTERNED_KEYS.get(representation);
+        if (key == null) {
+            key = new ConstantPoolKey(json);
+            ConstantPoolKey existing = INTERNED_KEYS
+                    .putIfAbsent(representation, key);
+            if (existing != null) {
+                key = existing;
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Gets the shared constant pool key for the given JSON value if the value
+     * has been interned with {@link #intern(JsonValue)} and the key has not
+     * been evicted since.
+     *
+     * @param json
+     *            the JSON constant, not <code>null</code>
+     * @return the shared constant pool key for the given value, or
+     *         <code>null</code> if the value is not interned
+     */
+    public static ConstantPoolKey getInterned(JsonValue json) {
+        assert json != null;
+
+        return INTERNED_KEYS.get(json.toJson());
+    }
+
     /**
      * Gets the id used to identify the referenced JSON constant.
      *
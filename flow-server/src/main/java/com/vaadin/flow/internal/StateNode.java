@@ -16,6 +16,9 @@
 
 package com.vaadin.flow.internal;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -124,6 +127,8 @@ public class StateNode implements Serializable {
                     .sorted(NodeFeatureRegistry.PRIORITY_COMPARATOR)
                     .forEach(key -> mappings.put(key,
                             Integer.valueOf(mappings.size())));
+            // Changed features are tracked in a bit mask
+            assert mappings.size() <= Long.SIZE;
         }
     }
 
@@ -137,6 +142,12 @@ public class StateNode implements Serializable {
      */
     private static final Map<FeatureSetKey, FeatureSet> featureSetCache = new ConcurrentHashMap<>();
 
+    /*
+     * Change trackers with more entries than this are discarded instead of
+     * cleared after their changes have been collected.
+     */
+    private static final int MAX_REUSED_CHANGE_TRACKER_SIZE = 16;
+
     private final FeatureSet featureSet;
 
     /**
@@ -144,7 +155,19 @@ public class StateNode implements Serializable {
      */
     private Serializable features;
 
-    private Map<Class<? extends NodeFeature>, Serializable> changes;
+    /*
+     * Change trackers indexed by the index of the feature in this node. The
+     * trackers are cleared instead of discarded when the changes have been
+     * collected so that they can be reused in the next round trip. Only
+     * trackers with pending changes are serialized.
+     */
+    private transient Serializable[] changeTrackers;
+
+    // Bit mask of the feature indexes that have changes to collect
+    private long changedFeatures;
+
+    // Trackers of feature instances not owned by this node, e.g. in tests
+    private Map<Class<? extends NodeFeature>, Serializable> otherChangeTrackers;
 
     private List<Command> attachListeners;
 
@@ -522,6 +545,15 @@ public class StateNode implements Serializable {
                 .map(featureType::cast);
     }
 
+    /**
+     * Gets the number of features of this node that have been initialized.
+     *
+     * @return the number of initialized features
+     */
+    public int getInitializedFeatureCount() {
+        return (int) getInitializedFeatures().count();
+    }
+
     /**
      * Checks whether this node contains a feature.
      *
@@ -632,18 +664,19 @@ public class StateNode implements Serializable {
 
     private void doCollectChanges(Consumer<NodeChange> collector,
             Stream<NodeFeature> features) {
-        features.filter(this::hasChangeTracker).forEach(feature -> {
-            feature.collectChanges(collector);
-            changes.remove(feature.getClass());
+        if (changedFeatures == 0) {
+            isInitialChanges = false;
+            return;
+        }
+        features.forEach(feature -> {
+            int index = getFeatureIndex(feature.getClass());
+            if ((changedFeatures & (1L << index)) != 0) {
+                feature.collectChanges(collector);
+                changedFeatures &= ~(1L << index);
+                resetChangeTracker(index);
+            }
         });
         isInitialChanges = false;
-        if (changes != null && changes.isEmpty()) {
-            changes = null;
-        }
-    }
-
-    private boolean hasChangeTracker(NodeFeature nodeFeature) {
-        return changes != null && changes.containsKey(nodeFeature.getClass());
     }
 
     /**
@@ -651,7 +684,30 @@ public class StateNode implements Serializable {
      * testing purposes.
      */
     public void clearChanges() {
-        changes = null;
+        changedFeatures = 0;
+        otherChangeTrackers = null;
+        if (changeTrackers != null) {
+            for (int i = 0; i < changeTrackers.length; i++) {
+                resetChangeTracker(i);
+            }
+        }
+    }
+
+    private void resetChangeTracker(int index) {
+        Serializable tracker = changeTrackers[index];
+        /*
+         * Trackers used for many changes are discarded so that their backing
+         * arrays don't stay at their peak size.
+         */
+        if (tracker instanceof Collection<?> && ((Collection<?>) tracker)
+                .size() <= MAX_REUSED_CHANGE_TRACKER_SIZE) {
+            ((Collection<?>) tracker).clear();
+        } else if (tracker instanceof Map<?, ?> && ((Map<?, ?>) tracker)
+                .size() <= MAX_REUSED_CHANGE_TRACKER_SIZE) {
+            ((Map<?, ?>) tracker).clear();
+        } else {
+            changeTrackers[index] = null;
+        }
     }
 
     /**
@@ -795,6 +851,16 @@ public class StateNode implements Serializable {
         return () -> removeDetachListener(detachListener);
     }
 
+    /**
+     * Gets the number of attach and detach listeners of this node.
+     *
+     * @return the number of attach and detach listeners
+     */
+    public int getAttachDetachListenerCount() {
+        return (attachListeners == null ? 0 : attachListeners.size())
+                + (detachListeners == null ? 0 : detachListeners.size());
+    }
+
     private void removeAttachListener(Command attachListener) {
         assert attachListener != null;
 
@@ -850,12 +916,26 @@ public class StateNode implements Serializable {
     @SuppressWarnings("unchecked")
     public <T extends Serializable> T getChangeTracker(NodeFeature feature,
             Supplier<T> factory) {
-        if (changes == null) {
-            changes = new HashMap<>();
+        Integer featureIndex = featureSet.mappings.get(feature.getClass());
+        if (featureIndex == null) {
+            if (otherChangeTrackers == null) {
+                otherChangeTrackers = new HashMap<>();
+            }
+            return (T) otherChangeTrackers.computeIfAbsent(feature.getClass(),
+                    k -> factory.get());
+        }
+        int index = featureIndex.intValue();
+        if (changeTrackers == null) {
+            changeTrackers = new Serializable[featureSet.mappings.size()];
+        }
+        Serializable tracker = changeTrackers[index];
+        if (tracker == null) {
+            tracker = factory.get();
+            changeTrackers[index] = tracker;
         }
+        changedFeatures |= 1L << index;
 
-        return (T) changes.computeIfAbsent(feature.getClass(),
-                k -> factory.get());
+        return (T) tracker;
     }
 
     /**
@@ -1113,4 +1193,24 @@ public class StateNode implements Serializable {
         return isAttached() && getOwner().hasNode(this);
     }
 
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        stream.defaultWriteObject();
+        Serializable[] pendingTrackers = null;
+        if (changedFeatures != 0 && changeTrackers != null) {
+            pendingTrackers = new Serializable[changeTrackers.length];
+            for (int i = 0; i < changeTrackers.length; i++) {
+                if ((changedFeatures & (1L << i)) != 0) {
+                    pendingTrackers[i] = changeTrackers[i];
+                }
+            }
+        }
+        stream.writeObject(pendingTrackers);
+    }
+
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        changeTrackers = (Serializable[]) stream.readObject();
+    }
+
 }
@@ -16,6 +16,8 @@
 
 package com.vaadin.flow.internal.nodefeature;
 
+import java.util.Collection;
+
 import com.vaadin.flow.internal.StateNode;
 
 /**
@@ -42,6 +44,13 @@ public class ElementChildrenList extends StateNodeNodeList {
         super.add(index, node);
     }
 
+    @Override
+    public void addAll(int index, Collection<? extends StateNode> nodes) {
+        assert nodes != null;
+
+        super.addAll(index, nodes);
+    }
+
     @Override
     public StateNode get(int index) {
         return super.get(index);
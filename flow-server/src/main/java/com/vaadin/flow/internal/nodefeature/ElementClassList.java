@@ -15,6 +15,11 @@
  */
 package com.vaadin.flow.internal.nodefeature;
 
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
+
 import com.vaadin.flow.dom.ClassList;
 import com.vaadin.flow.internal.StateNode;
 
@@ -35,18 +40,63 @@ public class ElementClassList extends SerializableNodeList<String> {
 
         @Override
         protected void validate(String className) {
-            if (className == null) {
-                throw new IllegalArgumentException("Class name cannot be null");
-            }
-
-            if ("".equals(className)) {
-                throw new IllegalArgumentException(
-                        "Class name cannot be empty");
-            }
-            if (className.indexOf(' ') != -1) {
-                throw new IllegalArgumentException(
-                        "Class name cannot contain spaces");
-            }
+            validateClassName(className);
+        }
+    }
+
+    /**
+     * Class list view which doesn't initialize the class list feature of the
+     * node until a class name is added. Until then, the view reads from an
+     * empty set, so reading the classes of an element without any classes
+     * doesn't allocate a feature.
+     */
+    private static class LazyClassListView extends AbstractSet<String>
+            implements ClassList {
+
+        private final StateNode node;
+
+        private LazyClassListView(StateNode node) {
+            this.node = node;
+        }
+
+        private Optional<ClassList> getInitializedClassList() {
+            return node.getFeatureIfInitialized(ElementClassList.class)
+                    .map(ElementClassList::getClassList);
+        }
+
+        @Override
+        public int size() {
+            return getInitializedClassList().map(ClassList::size).orElse(0);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return getInitializedClassList()
+                    .map(classList -> classList.contains(o)).orElse(false);
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return getInitializedClassList().map(ClassList::iterator)
+                    .orElseGet(Collections::emptyIterator);
+        }
+
+        @Override
+        public boolean add(String className) {
+            validateClassName(className);
+            return node.getFeature(ElementClassList.class).getClassList()
+                    .add(className);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return getInitializedClassList()
+                    .map(classList -> classList.remove(o)).orElse(false);
+        }
+
+        @Override
+        public void clear() {
+            getInitializedClassList().ifPresent(ClassList::clear);
         }
     }
 
@@ -68,4 +118,31 @@ public class ElementClassList extends SerializableNodeList<String> {
     public ClassList getClassList() {
         return new ClassListView(this);
     }
+
+    /**
+     * Creates a view into the class list of the given node. The class list
+     * feature of the node is initialized only when a class name is added
+     * through the view.
+     *
+     * @param node
+     *            the node to get the class list for, not <code>null</code>
+     * @return a view into the class list of the node
+     */
+    public static ClassList getClassList(StateNode node) {
+        return new LazyClassListView(node);
+    }
+
+    private static void validateClassName(String className) {
+        if (className == null) {
+            throw new IllegalArgumentException("Class name cannot be null");
+        }
+
+        if ("".equals(className)) {
+            throw new IllegalArgumentException("Class name cannot be empty");
+        }
+        if (className.indexOf(' ') != -1) {
+            throw new IllegalArgumentException(
+                    "Class name cannot contain spaces");
+        }
+    }
 }
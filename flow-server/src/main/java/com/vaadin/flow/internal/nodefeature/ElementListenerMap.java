@@ -314,6 +314,18 @@ public class ElementListenerMap extends NodeMap {
         return listenerWrapper;
     }
 
+    /**
+     * Gets the number of DOM event listeners in this map.
+     *
+     * @return the number of listeners
+     */
+    public int getListenerCount() {
+        if (listeners == null) {
+            return 0;
+        }
+        return listeners.values().stream().mapToInt(List::size).sum();
+    }
+
     private Collection<DomEventListenerWrapper> getWrappers(String eventType) {
         if (listeners == null) {
             return Collections.emptyList();
@@ -380,8 +392,8 @@ public class ElementListenerMap extends NodeMap {
             JsonObject eventSettingsJson = JsonUtils.createObject(eventSettings,
                     ExpressionSettings::toJson);
 
-            ConstantPoolKey constantPoolKey = new ConstantPoolKey(
-                    eventSettingsJson);
+            ConstantPoolKey constantPoolKey = ConstantPoolKey
+                    .intern(eventSettingsJson);
 
             put(eventType, constantPoolKey);
     }
@@ -255,9 +255,12 @@ public class ElementPropertyMap extends AbstractPropertyMap {
         }
         StateNode node = getNode();
 
+        // Listeners are only read here, no need to initialize the feature
         if (node.hasFeature(ElementListenerMap.class)
-                && node.getFeature(ElementListenerMap.class)
-                        .getPropertySynchronizationMode(property) != null) {
+                && node.getFeatureIfInitialized(ElementListenerMap.class)
+                        .map(listeners -> listeners
+                                .getPropertySynchronizationMode(property))
+                        .isPresent()) {
             return AllowUpdate.EXPLICITLY_ALLOW;
         }
         return AllowUpdate.NO_EXPLICIT_STATUS;
@@ -223,6 +223,30 @@ public abstract class NodeList<T extends Serializable> extends NodeFeature {
                 itemsList));
     }
 
+    /**
+     * Inserts all provided items at the given index of the list. The insertion
+     * is tracked as a single change.
+     *
+     * @param index
+     *            index to insert at
+     * @param items
+     *            a collection of items to insert, not null
+     */
+    protected void addAll(int index, Collection<? extends T> items) {
+        assert items != null;
+        if (items.isEmpty()) {
+            return;
+        }
+
+        List<? extends T> itemsList = new ArrayList<>(items);
+
+        ensureValues();
+        values.addAll(index, itemsList);
+
+        addChange(
+                new ListAddChange<>(this, isNodeValues(), index, itemsList));
+    }
+
     /**
      * Inserts an item at the given index of the list.
      *
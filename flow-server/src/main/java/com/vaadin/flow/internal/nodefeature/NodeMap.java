@@ -17,11 +17,16 @@
 package com.vaadin.flow.internal.nodefeature;
 
 import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -144,6 +149,137 @@ public abstract class NodeMap extends NodeFeature {
         }
     }
 
+    /**
+     * Change tracker keeping the changed keys and their earlier values in small
+     * arrays. The arrays are kept when the tracker is cleared so that the same
+     * tracker can be used again in the next round trip.
+     */
+    private static class ChangeTracker
+            extends AbstractMap<String, Serializable> implements Serializable {
+
+        // Above this, keys are looked up through a hash index
+        private static final int LINEAR_SEARCH_LIMIT = 16;
+
+        private String[] keys = new String[4];
+        private Serializable[] oldValues = new Serializable[4];
+        private int size;
+
+        private transient Map<String, Integer> index;
+
+        private int indexOf(Object key) {
+            if (size > LINEAR_SEARCH_LIMIT) {
+                if (index == null) {
+                    index = new HashMap<>();
+                    for (int i = 0; i < size; i++) {
+                        index.put(keys[i], Integer.valueOf(i));
+                    }
+                }
+                Integer i = index.get(key);
+                return i == null ? -1 : i.intValue();
+            }
+            for (int i = 0; i < size; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public Serializable get(Object key) {
+            int i = indexOf(key);
+            return i < 0 ? null : oldValues[i];
+        }
+
+        @Override
+        public Serializable put(String key, Serializable value) {
+            int i = indexOf(key);
+            if (i >= 0) {
+                Serializable previous = oldValues[i];
+                oldValues[i] = value;
+                return previous;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                oldValues = Arrays.copyOf(oldValues, size * 2);
+            }
+            keys[size] = key;
+            oldValues[size] = value;
+            if (index != null) {
+                index.put(key, Integer.valueOf(size));
+            }
+            size++;
+            return null;
+        }
+
+        @Override
+        public Serializable remove(Object key) {
+            int i = indexOf(key);
+            if (i < 0) {
+                return null;
+            }
+            Serializable previous = oldValues[i];
+            size--;
+            keys[i] = keys[size];
+            oldValues[i] = oldValues[size];
+            keys[size] = null;
+            oldValues[size] = null;
+            index = null;
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(keys, 0, size, null);
+            Arrays.fill(oldValues, 0, size, null);
+            size = 0;
+            index = null;
+        }
+
+        @Override
+        public Set<Entry<String, Serializable>> entrySet() {
+            return new AbstractSet<Entry<String, Serializable>>() {
+                @Override
+                public int size() {
+                    return size;
+                }
+
+                @Override
+                public Iterator<Entry<String, Serializable>> iterator() {
+                    return new Iterator<Entry<String, Serializable>>() {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < size;
+                        }
+
+                        @Override
+                        public Entry<String, Serializable> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, Serializable> entry = new SimpleImmutableEntry<>(
+                                    keys[next], oldValues[next]);
+                            next++;
+                            return entry;
+                        }
+                    };
+                }
+            };
+        }
+    }
+
     private Values values;
 
     private boolean isPopulated;
@@ -398,7 +534,7 @@ public abstract class NodeMap extends NodeFeature {
     }
 
     private Map<String, Serializable> getChangeTracker() {
-        return getNode().getChangeTracker(this, HashMap::new);
+        return getNode().getChangeTracker(this, ChangeTracker::new);
     }
 
     private void setAccessed(String key) {
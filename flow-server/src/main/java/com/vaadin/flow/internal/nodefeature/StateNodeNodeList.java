@@ -59,6 +59,12 @@ public abstract class StateNodeNodeList extends NodeList<StateNode> {
         items.forEach(this::attachPotentialChild);
     }
 
+    @Override
+    protected void addAll(int index, Collection<? extends StateNode> items) {
+        super.addAll(index, items);
+        items.forEach(this::attachPotentialChild);
+    }
+
     @Override
     protected StateNode remove(int index) {
         StateNode removed = super.remove(index);
@@ -17,7 +17,9 @@ package com.vaadin.flow.router.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,10 +38,22 @@ import com.vaadin.flow.server.InvalidRouteConfigurationException;
  */
 class RouteModel implements Serializable {
 
+    /**
+     * Maximum number of navigation urls for which the resolved target is kept
+     * in an immutable model.
+     */
+    static final int NAVIGATION_TARGET_CACHE_SIZE = 1000;
+
     private boolean mutable;
 
     private RouteSegment root;
 
+    /**
+     * Recently resolved navigation targets by url. Only used when the model is
+     * immutable, since any change to the routes creates a new model.
+     */
+    private transient volatile Map<String, NavigationRouteTarget> navigationTargetCache;
+
     private RouteModel(boolean mutable) {
         this(RouteSegment.createRoot(), mutable);
     }
@@ -134,7 +148,16 @@ class RouteModel implements Serializable {
      *         <code>url</code> argument according with the route configuration.
      */
     NavigationRouteTarget getNavigationRouteTarget(String url) {
-        return root.getNavigationRouteTarget(url);
+        if (mutable || url == null) {
+            return root.getNavigationRouteTarget(url);
+        }
+        Map<String, NavigationRouteTarget> cache = getNavigationTargetCache();
+        NavigationRouteTarget target = cache.get(url);
+        if (target == null) {
+            target = root.getNavigationRouteTarget(url);
+            cache.put(url, target);
+        }
+        return target;
     }
 
     /**
@@ -245,6 +268,25 @@ class RouteModel implements Serializable {
         return result;
     }
 
+    private Map<String, NavigationRouteTarget> getNavigationTargetCache() {
+        Map<String, NavigationRouteTarget> cache = navigationTargetCache;
+        if (cache == null) {
+            // Created lazily since the cache is not serialized. Concurrent
+            // creation only loses some cached entries.
+            cache = Collections.synchronizedMap(
+                    new LinkedHashMap<String, NavigationRouteTarget>(16, 0.75f,
+                            true) {
+                        @Override
+                        protected boolean removeEldestEntry(
+                                Map.Entry<String, NavigationRouteTarget> eldest) {
+                            return size() > NAVIGATION_TARGET_CACHE_SIZE;
+                        }
+                    });
+            navigationTargetCache = cache;
+        }
+        return cache;
+    }
+
     private void throwIfImmutable() {
         if (!mutable) {
             throw new IllegalStateException(
@@ -474,6 +474,9 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
     protected static class BootstrapPageBuilder
             implements PageBuilder, Serializable {
 
+        // Chunk file names from the stats file, read once in production mode
+        private transient volatile List<String> productionChunkNames;
+
         /**
          * Returns the bootstrap page for the given context.
          *
@@ -750,6 +753,37 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
 
         private void appendNpmBundle(Element head, VaadinService service,
                 BootstrapContext context) throws IOException {
+            for (String chunkName : getChunkNames(service)) {
+                Element script = createJavaScriptElement(
+                        "./" + VAADIN_MAPPING + chunkName, false);
+                head.appendChild(script.attr("type", "module")
+                        .attr("data-app-id",
+                                context.getUI().getInternals().getAppId())
+                        // Fixes basic auth in Safari #6560
+                        .attr("crossorigin", true));
+            }
+        }
+
+        private List<String> getChunkNames(VaadinService service)
+                throws IOException {
+            DeploymentConfiguration config = service
+                    .getDeploymentConfiguration();
+            if (!config.isProductionMode() || config.isStatsExternal()) {
+                return readChunkNames(service);
+            }
+            // The stats file on the class path doesn't change in production
+            // mode, so it is only scanned and parsed once
+            List<String> chunkNames = productionChunkNames;
+            if (chunkNames == null) {
+                chunkNames = Collections
+                        .unmodifiableList(readChunkNames(service));
+                productionChunkNames = chunkNames;
+            }
+            return chunkNames;
+        }
+
+        private List<String> readChunkNames(VaadinService service)
+                throws IOException {
             String content = FrontendUtils.getStatsAssetsByChunkName(service);
             if (content == null) {
                 StringBuilder message = new StringBuilder(
@@ -778,21 +812,15 @@ public class BootstrapHandler extends SynchronizedRequestHandler {
                 throw new IOException(message.toString());
             }
             JsonObject chunks = Json.parse(content);
+            List<String> chunkNames = new ArrayList<>();
             for (String key : getChunkKeys(chunks)) {
-                String chunkName;
                 if (chunks.get(key).getType().equals(JsonType.ARRAY)) {
-                    chunkName = getArrayChunkName(chunks, key);
+                    chunkNames.add(getArrayChunkName(chunks, key));
                 } else {
-                    chunkName = chunks.getString(key);
+                    chunkNames.add(chunks.getString(key));
                 }
-                Element script = createJavaScriptElement(
-                        "./" + VAADIN_MAPPING + chunkName, false);
-                head.appendChild(script.attr("type", "module")
-                        .attr("data-app-id",
-                                context.getUI().getInternals().getAppId())
-                        // Fixes basic auth in Safari #6560
-                        .attr("crossorigin", true));
             }
+            return chunkNames;
         }
 
         /**
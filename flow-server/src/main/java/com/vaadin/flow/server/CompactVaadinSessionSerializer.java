@@ -0,0 +1,120 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Session serializer which writes a more compact form of the session than
+ * plain Java serialization.
+ * <p>
+ * Equal strings, e.g. property names and tag names repeated in every node of
+ * the state tree, are written only once and referenced after that. The result
+ * is compressed.
+ * <p>
+ * Other HTTP session attributes must not refer to objects of the session, see
+ * {@link VaadinSessionSerializer}.
+ */
+public class CompactVaadinSessionSerializer implements VaadinSessionSerializer {
+
+    private static final int FORMAT_VERSION = 1;
+
+    @Override
+    public void write(VaadinSession session, OutputStream stream)
+            throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            DeflaterOutputStream deflaterStream = new DeflaterOutputStream(
+                    stream, deflater);
+            ObjectOutputStream out = new StringDeduplicatingOutputStream(
+                    deflaterStream);
+            out.writeByte(FORMAT_VERSION);
+            out.writeObject(session);
+            out.flush();
+            deflaterStream.finish();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public VaadinSession read(InputStream stream)
+            throws IOException, ClassNotFoundException {
+        ObjectInputStream in = new ContextClassLoaderObjectInputStream(
+                new InflaterInputStream(stream));
+        int version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new StreamCorruptedException(
+                    "Unsupported session format version " + version);
+        }
+        return (VaadinSession) in.readObject();
+    }
+
+    private static class StringDeduplicatingOutputStream
+            extends ObjectOutputStream {
+        private final Map<String, String> strings = new HashMap<>();
+
+        private StringDeduplicatingOutputStream(OutputStream out)
+                throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) throws IOException {
+            if (obj instanceof String) {
+                // The same instance is written as a back reference
+                return strings.computeIfAbsent((String) obj, key -> key);
+            }
+            return obj;
+        }
+    }
+
+    private static class ContextClassLoaderObjectInputStream
+            extends ObjectInputStream {
+
+        private ContextClassLoaderObjectInputStream(InputStream in)
+                throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc)
+                throws IOException, ClassNotFoundException {
+            ClassLoader classLoader = Thread.currentThread()
+                    .getContextClassLoader();
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // fall back to the default resolution below
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
@@ -52,6 +52,7 @@ public final class Constants implements Serializable {
     public static final String CONNECT_GENERATED_TS_DIR_TOKEN = "connect.generated";
     public static final String EXTERNAL_STATS_FILE_TOKEN = "externalStatsFile";
     public static final String EXTERNAL_STATS_URL_TOKEN = "externalStatsUrl";
+    public static final String ROUTE_INDEX_TOKEN = "routeIndex";
 
     /**
      * @deprecated Use
@@ -130,6 +130,14 @@ public class InitParameters implements Serializable {
      */
     public static final String SERVLET_PARAMETER_DEVMODE_ENABLE_LIVE_RELOAD = "devmode.liveReload.enabled";
 
+    /**
+     * Configuration parameter name for registering an MBean which measures the
+     * footprint of the sessions.
+     *
+     * @see SessionFootprintMXBean
+     */
+    public static final String SERVLET_PARAMETER_SESSION_FOOTPRINT_MBEAN = "sessionFootprintMBean";
+
     /**
      * I18N provider property.
      */
@@ -28,6 +28,8 @@ import java.util.Map;
 
 import org.jsoup.nodes.Element;
 
+import com.vaadin.flow.function.SerializableSupplier;
+
 /**
  * Implementation of icons used in PWA resources.
  *
@@ -59,6 +61,7 @@ public class PwaIcon implements Serializable {
     private String baseName;
     private Domain domain;
     private byte[] data;
+    private SerializableSupplier<BufferedImage> imageRenderer;
 
     private final Map<String, String> attributes = new HashMap<>();
     private String tag = "link";
@@ -207,12 +210,46 @@ public class PwaIcon implements Serializable {
      *            the image in png format
      */
     public void setImage(BufferedImage image) {
+        synchronized (this) {
+            data = encode(image);
+            imageRenderer = null;
+        }
+        fileHash = Arrays.hashCode(data);
+        setRelativeName();
+    }
+
+    /**
+     * Sets the image presenting the icon to be rendered when the icon is
+     * written for the first time.
+     *
+     * @param fileHash
+     *            the hash identifying the image contents, used for the cache
+     *            revision of the icon
+     * @param renderer
+     *            the supplier rendering the image
+     */
+    void setImage(long fileHash, SerializableSupplier<BufferedImage> renderer) {
+        synchronized (this) {
+            data = null;
+            imageRenderer = renderer;
+        }
+        this.fileHash = fileHash;
+        setRelativeName();
+    }
+
+    private synchronized byte[] getData() {
+        if (data == null && imageRenderer != null) {
+            data = encode(imageRenderer.get());
+            imageRenderer = null;
+        }
+        return data;
+    }
+
+    private static byte[] encode(BufferedImage image) {
         try (ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
             ImageIO.write(image, "png", stream);
             stream.flush();
-            data = stream.toByteArray();
-            fileHash = Arrays.hashCode(data);
-            setRelativeName();
+            return stream.toByteArray();
         } catch (IOException ioe) {
             throw new UncheckedIOException("Failed to write an image ", ioe);
         }
@@ -226,7 +263,7 @@ public class PwaIcon implements Serializable {
      */
     public void write(OutputStream outputStream) {
         try {
-            outputStream.write(data);
+            outputStream.write(getData());
         } catch (IOException ioe) {
             throw new UncheckedIOException(
                     "Failed to store the icon image into the stream provided",
@@ -23,6 +23,7 @@ import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.image.BufferedImage;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -33,9 +34,11 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.apache.commons.io.IOUtils;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.server.startup.ApplicationRouteRegistry;
@@ -75,6 +78,8 @@ public class PwaRegistry implements Serializable {
     private long offlineHash;
     private List<PwaIcon> icons = new ArrayList<>();
     private final PwaConfiguration pwaConfiguration;
+    private byte[] logoData;
+    private transient BufferedImage baseImage;
 
     /**
      * Creates a new PwaRegistry instance.
@@ -106,7 +111,8 @@ public class PwaRegistry implements Serializable {
                     pwaConfiguration.relOfflinePath());
             // Load base logo from servlet context if available
             // fall back to local image if unavailable
-            BufferedImage baseImage = getBaseImage(logo);
+            logoData = getLogoData(logo);
+            baseImage = ImageIO.read(new ByteArrayInputStream(logoData));
 
             if (baseImage == null) {
                 LoggerFactory.getLogger(PwaRegistry.class).error(
@@ -116,8 +122,9 @@ public class PwaRegistry implements Serializable {
                 // resizing
                 int bgColor = baseImage.getRGB(0, 0);
 
-                // initialize icons
-                icons = initializeIcons(baseImage, bgColor);
+                // initialize icons, the images are rendered only when
+                // requested for the first time
+                icons = initializeIcons(Arrays.hashCode(logoData), bgColor);
             }
 
             // Load offline page as string, from servlet context if
@@ -146,17 +153,27 @@ public class PwaRegistry implements Serializable {
         return resourceUrl;
     }
 
-    private List<PwaIcon> initializeIcons(BufferedImage baseImage,
-            int bgColor) {
+    private List<PwaIcon> initializeIcons(int logoHash, int bgColor) {
         for (PwaIcon icon : getIconTemplates(pwaConfiguration.getIconPath())) {
-            // New image with wanted size
-            icon.setImage(drawIconImage(baseImage, bgColor, icon));
-            // Store byte array and hashcode of image (GeneratedImage)
+            // New image with wanted size, identified by the hash of the logo
+            icon.setImage(logoHash,
+                    () -> drawIconImage(getBaseImage(), bgColor, icon));
             icons.add(icon);
         }
         return icons;
     }
 
+    private synchronized BufferedImage getBaseImage() {
+        if (baseImage == null) {
+            try {
+                baseImage = ImageIO.read(new ByteArrayInputStream(logoData));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read the logo", e);
+            }
+        }
+        return baseImage;
+    }
+
     private BufferedImage drawIconImage(BufferedImage baseImage, int bgColor,
             PwaIcon icon) {
         BufferedImage bimage = new BufferedImage(icon.getWidth(),
@@ -383,11 +400,13 @@ public class PwaRegistry implements Serializable {
         }
     }
 
-    private BufferedImage getBaseImage(URL logo) throws IOException {
+    private byte[] getLogoData(URL logo) throws IOException {
         URLConnection logoResource = logo != null ? logo.openConnection()
                 : BootstrapHandler.class.getResource("default-logo.png")
                         .openConnection();
-        return ImageIO.read(logoResource.getInputStream());
+        try (InputStream stream = logoResource.getInputStream()) {
+            return IOUtils.toByteArray(stream);
+        }
     }
 
     /**
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.Serializable;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.server.HandlerHelper.RequestType;
 
 /**
  * Handler for producing a response to HTTP requests. Handlers can be either
@@ -57,4 +58,19 @@ public interface RequestHandler extends Serializable {
     boolean handleRequest(VaadinSession session, VaadinRequest request,
             VaadinResponse response) throws IOException;
 
+    /**
+     * Gets the request type this handler is restricted to, if any.
+     * <p>
+     * A handler returning a type must not handle requests of any other type.
+     * This allows the service to skip the handler for other requests without
+     * invoking it. The default implementation returns {@code null}, which
+     * means that the handler is invoked for every request.
+     *
+     * @return the only request type handled by this handler, or
+     *         {@code null} if the handler may handle any request
+     */
+    default RequestType getHandledRequestType() {
+        return null;
+    }
+
 }
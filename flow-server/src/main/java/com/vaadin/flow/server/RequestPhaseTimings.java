@@ -0,0 +1,171 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+/**
+ * Durations of the phases of handling a single request, such as waiting for
+ * the session lock, running RPC handlers and encoding the response, together
+ * with the time spent in RPC handlers per component class.
+ * <p>
+ * The timings are collected only when request timing is enabled in the
+ * deployment configuration and are sent to the client with the response, so
+ * that they can be correlated with the client side processing of the same
+ * response.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ *
+ * @see com.vaadin.flow.function.DeploymentConfiguration#isRequestTiming()
+ */
+public class RequestPhaseTimings implements Serializable {
+
+    /**
+     * The phase of waiting for the session lock.
+     */
+    public static final String LOCK_WAIT = "lockWait";
+
+    /**
+     * The phase of running the RPC handlers for the invocations in the
+     * request.
+     */
+    public static final String RPC = "rpc";
+
+    /**
+     * The phase of running the before client response callbacks.
+     */
+    public static final String BEFORE_CLIENT_RESPONSE = "beforeClientResponse";
+
+    /**
+     * The phase of encoding the response, excluding the before client response
+     * callbacks.
+     */
+    public static final String ENCODE = "encode";
+
+    private static final String ATTRIBUTE = RequestPhaseTimings.class
+            .getName();
+
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+    private final Map<String, Long> components = new LinkedHashMap<>();
+
+    /**
+     * Starts collecting phase timings for the given request.
+     *
+     * @param request
+     *            the request to collect timings for, not <code>null</code>
+     */
+    public static void start(VaadinRequest request) {
+        request.setAttribute(ATTRIBUTE, new RequestPhaseTimings());
+    }
+
+    /**
+     * Gets the phase timings of the given request.
+     *
+     * @param request
+     *            the request, or <code>null</code>
+     * @return the phase timings, or an empty optional if timings are not
+     *         collected for the request
+     */
+    public static Optional<RequestPhaseTimings> get(VaadinRequest request) {
+        if (request == null) {
+            return Optional.empty();
+        }
+        Object timings = request.getAttribute(ATTRIBUTE);
+        if (timings instanceof RequestPhaseTimings) {
+            return Optional.of((RequestPhaseTimings) timings);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the phase timings of the current request.
+     *
+     * @return the phase timings, or an empty optional if there is no current
+     *         request or timings are not collected for it
+     */
+    public static Optional<RequestPhaseTimings> getCurrent() {
+        return get(VaadinRequest.getCurrent());
+    }
+
+    /**
+     * Adds time spent in the given phase. Time added several times to the
+     * same phase is summed up.
+     *
+     * @param phase
+     *            the name of the phase, not <code>null</code>
+     * @param nanos
+     *            the time spent in nanoseconds
+     */
+    public void addPhase(String phase, long nanos) {
+        phases.merge(phase, Long.valueOf(nanos), Long::sum);
+    }
+
+    /**
+     * Adds time spent in RPC handlers for the given component class.
+     *
+     * @param componentType
+     *            the name of the component class, not <code>null</code>
+     * @param nanos
+     *            the time spent in nanoseconds
+     */
+    public void addComponent(String componentType, long nanos) {
+        components.merge(componentType, Long.valueOf(nanos), Long::sum);
+    }
+
+    /**
+     * Gets the time spent in the given phase.
+     *
+     * @param phase
+     *            the name of the phase, not <code>null</code>
+     * @return the time spent in nanoseconds, or 0 if the phase has not been
+     *         recorded
+     */
+    public long getPhase(String phase) {
+        return phases.getOrDefault(phase, Long.valueOf(0)).longValue();
+    }
+
+    /**
+     * Encodes the timings as JSON for sending them to the client. The
+     * durations are in milliseconds.
+     *
+     * @param route
+     *            the class name of the route target shown in the UI, or
+     *            <code>null</code> if there is none
+     * @return the timings as a JSON object
+     */
+    public JsonObject toJson(String route) {
+        JsonObject json = Json.createObject();
+        if (route != null) {
+            json.put("route", route);
+        }
+        json.put("phases", toJson(phases));
+        json.put("components", toJson(components));
+        return json;
+    }
+
+    private static JsonObject toJson(Map<String, Long> durations) {
+        JsonObject json = Json.createObject();
+        durations.forEach((name, nanos) -> json.put(name,
+                nanos.longValue() / 1000000.0));
+        return json;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+
+/**
+ * Serialized form of a {@link VaadinSession} written by a
+ * {@link VaadinSessionSerializer}.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ */
+final class SerializedVaadinSession implements Serializable {
+
+    private static final ThreadLocal<Boolean> WRITING = new ThreadLocal<>();
+
+    private final VaadinSessionSerializer serializer;
+    private final byte[] data;
+
+    private SerializedVaadinSession(VaadinSessionSerializer serializer,
+            byte[] data) {
+        this.serializer = serializer;
+        this.data = data;
+    }
+
+    /**
+     * Checks whether a session is currently being written by a serializer in
+     * this thread, in which case it must be serialized as is.
+     *
+     * @return {@code true} if a session is being written by a serializer
+     */
+    static boolean isWriting() {
+        return WRITING.get() != null;
+    }
+
+    /**
+     * Writes the given session using the serializer.
+     *
+     * @param session
+     *            the session to write
+     * @param serializer
+     *            the serializer to use
+     * @return the serialized form of the session
+     * @throws ObjectStreamException
+     *             if the serializer fails to write the session
+     */
+    static SerializedVaadinSession write(VaadinSession session,
+            VaadinSessionSerializer serializer) throws ObjectStreamException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        WRITING.set(Boolean.TRUE);
+        try {
+            serializer.write(session, stream);
+        } catch (IOException e) {
+            throw createException("Unable to write the session", e);
+        } finally {
+            WRITING.remove();
+        }
+        return new SerializedVaadinSession(serializer, stream.toByteArray());
+    }
+
+    private Object readResolve() throws ObjectStreamException {
+        try {
+            return serializer.read(new ByteArrayInputStream(data));
+        } catch (IOException | ClassNotFoundException e) {
+            throw createException("Unable to read the session", e);
+        }
+    }
+
+    private static InvalidObjectException createException(String message,
+            Exception cause) {
+        InvalidObjectException exception = new InvalidObjectException(
+                message);
+        exception.initCause(cause);
+        return exception;
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.vaadin.flow.component.HasElement;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.internal.UIInternals;
+import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.internal.nodefeature.ComponentMapping;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+
+/**
+ * Approximate memory footprint of one or several sessions, broken down per UI,
+ * per route target and per component type.
+ * <p>
+ * The estimated sizes are based on the number of state nodes, initialized
+ * node features, listeners and pending JavaScript invocations, not on the
+ * actual retained heap size. They are meant for comparing UIs and views with
+ * each other and for capacity planning, not as exact numbers.
+ *
+ * @see VaadinService#measureFootprint(VaadinSession)
+ */
+public final class SessionFootprint implements Serializable {
+
+    // Rough shallow sizes on a 64-bit JVM with compressed references
+    static final long NODE_SIZE = 120;
+    static final long FEATURE_SIZE = 48;
+    static final long LISTENER_SIZE = 40;
+    static final long JS_INVOCATION_SIZE = 120;
+
+    /**
+     * Footprint of a single UI.
+     */
+    public static final class UIFootprint implements Serializable {
+        private final int uiId;
+        private final String routeTarget;
+        private int nodeCount;
+        private int featureCount;
+        private int listenerCount;
+        private int pendingJavaScriptInvocationCount;
+        private final Map<String, Integer> componentCounts = new HashMap<>();
+
+        private UIFootprint(int uiId, String routeTarget) {
+            this.uiId = uiId;
+            this.routeTarget = routeTarget;
+        }
+
+        /**
+         * Gets the id of the UI.
+         *
+         * @return the UI id
+         */
+        public int getUIId() {
+            return uiId;
+        }
+
+        /**
+         * Gets the class name of the route target shown in the UI.
+         *
+         * @return the route target class name, or <code>null</code> if the UI
+         *         doesn't show a route target
+         */
+        public String getRouteTarget() {
+            return routeTarget;
+        }
+
+        /**
+         * Gets the number of state nodes attached to the UI.
+         *
+         * @return the number of state nodes
+         */
+        public int getNodeCount() {
+            return nodeCount;
+        }
+
+        /**
+         * Gets the number of initialized features of the state nodes.
+         *
+         * @return the number of features
+         */
+        public int getFeatureCount() {
+            return featureCount;
+        }
+
+        /**
+         * Gets the number of DOM event listeners and attach and detach
+         * listeners of the state nodes.
+         *
+         * @return the number of listeners
+         */
+        public int getListenerCount() {
+            return listenerCount;
+        }
+
+        /**
+         * Gets the number of JavaScript invocations not yet sent to the
+         * client.
+         *
+         * @return the number of pending JavaScript invocations
+         */
+        public int getPendingJavaScriptInvocationCount() {
+            return pendingJavaScriptInvocationCount;
+        }
+
+        /**
+         * Gets the number of components in the UI per component class name.
+         *
+         * @return an unmodifiable map from component class name to count
+         */
+        public Map<String, Integer> getComponentCounts() {
+            return Collections.unmodifiableMap(componentCounts);
+        }
+
+        /**
+         * Gets the estimated size of the UI state in bytes.
+         *
+         * @return the estimated size in bytes
+         */
+        public long getEstimatedSize() {
+            return nodeCount * NODE_SIZE + featureCount * FEATURE_SIZE
+                    + listenerCount * LISTENER_SIZE
+                    + pendingJavaScriptInvocationCount * JS_INVOCATION_SIZE;
+        }
+
+        private void visit(StateNode node) {
+            nodeCount++;
+            featureCount += node.getInitializedFeatureCount();
+            listenerCount += node.getAttachDetachListenerCount();
+            node.getFeatureIfInitialized(ElementListenerMap.class).ifPresent(
+                    map -> listenerCount += map.getListenerCount());
+            if (node.hasFeature(ComponentMapping.class)) {
+                ComponentMapping.getComponent(node)
+                        .ifPresent(component -> componentCounts.merge(
+                                component.getClass().getName(), 1,
+                                Integer::sum));
+            }
+        }
+    }
+
+    private final List<UIFootprint> uis;
+
+    private SessionFootprint(List<UIFootprint> uis) {
+        this.uis = Collections.unmodifiableList(uis);
+    }
+
+    /**
+     * Measures the footprint of the given session. The session must be locked
+     * by the current thread.
+     *
+     * @param session
+     *            the session to measure, not <code>null</code>
+     * @return the footprint of the session
+     */
+    public static SessionFootprint measure(VaadinSession session) {
+        session.checkHasLock();
+
+        List<UIFootprint> uis = new ArrayList<>();
+        for (UI ui : session.getUIs()) {
+            uis.add(measure(ui));
+        }
+        return new SessionFootprint(uis);
+    }
+
+    /**
+     * Combines the footprints of several sessions into one.
+     *
+     * @param footprints
+     *            the footprints to combine, not <code>null</code>
+     * @return a footprint containing the UIs of all the given footprints
+     */
+    public static SessionFootprint combine(
+            Collection<SessionFootprint> footprints) {
+        List<UIFootprint> uis = new ArrayList<>();
+        footprints.forEach(footprint -> uis.addAll(footprint.getUIs()));
+        return new SessionFootprint(uis);
+    }
+
+    private static UIFootprint measure(UI ui) {
+        UIInternals internals = ui.getInternals();
+        List<HasElement> routeTargets = internals
+                .getActiveRouterTargetsChain();
+        UIFootprint footprint = new UIFootprint(ui.getUIId(),
+                routeTargets.isEmpty() ? null
+                        : routeTargets.get(0).getClass().getName());
+        internals.getStateTree().getRootNode()
+                .visitNodeTree(footprint::visit);
+        footprint.pendingJavaScriptInvocationCount = internals
+                .getPendingJavaScriptInvocationCount();
+        return footprint;
+    }
+
+    /**
+     * Gets the footprints of the measured UIs.
+     *
+     * @return an unmodifiable list of UI footprints
+     */
+    public List<UIFootprint> getUIs() {
+        return uis;
+    }
+
+    /**
+     * Gets the total number of state nodes in the measured UIs.
+     *
+     * @return the number of state nodes
+     */
+    public int getNodeCount() {
+        return uis.stream().mapToInt(UIFootprint::getNodeCount).sum();
+    }
+
+    /**
+     * Gets the total estimated size of the measured UIs in bytes.
+     *
+     * @return the estimated size in bytes
+     */
+    public long getEstimatedSize() {
+        return uis.stream().mapToLong(UIFootprint::getEstimatedSize).sum();
+    }
+
+    /**
+     * Gets the estimated size of the measured UIs in bytes per route target
+     * class name. UIs not showing any route target are not included.
+     *
+     * @return a map from route target class name to estimated size
+     */
+    public Map<String, Long> getEstimatedSizeByRouteTarget() {
+        Map<String, Long> sizes = new HashMap<>();
+        uis.stream().filter(ui -> ui.getRouteTarget() != null)
+                .forEach(ui -> sizes.merge(ui.getRouteTarget(),
+                        ui.getEstimatedSize(), Long::sum));
+        return sizes;
+    }
+
+    /**
+     * Gets the number of components in the measured UIs per component class
+     * name.
+     *
+     * @return a map from component class name to count
+     */
+    public Map<String, Integer> getComponentCounts() {
+        Map<String, Integer> counts = new HashMap<>();
+        uis.forEach(ui -> ui.getComponentCounts().forEach(
+                (type, count) -> counts.merge(type, count, Integer::sum)));
+        return counts;
+    }
+}
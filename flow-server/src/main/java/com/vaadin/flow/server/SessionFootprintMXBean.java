@@ -0,0 +1,60 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+/**
+ * JMX management interface for measuring the footprint of the sessions of a
+ * {@link VaadinService}.
+ * <p>
+ * Registered when the
+ * {@link InitParameters#SERVLET_PARAMETER_SESSION_FOOTPRINT_MBEAN} parameter
+ * is enabled.
+ *
+ * @see SessionFootprint
+ */
+public interface SessionFootprintMXBean {
+
+    /**
+     * Gets the number of open sessions of the service.
+     *
+     * @return the number of sessions
+     */
+    int getSessionCount();
+
+    /**
+     * Gets the number of inactive UIs closed in the background because they
+     * stopped sending heartbeats.
+     *
+     * @return the number of closed UIs
+     */
+    long getSweptUICount();
+
+    /**
+     * Gets the number of state nodes in the inactive UIs closed in the
+     * background.
+     *
+     * @return the number of state nodes
+     */
+    long getSweptNodeCount();
+
+    /**
+     * Measures the footprint of all open sessions of the service. Every
+     * session is locked while it is measured.
+     *
+     * @return the combined footprint of the sessions
+     */
+    SessionFootprint measure();
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps track of the sessions of a service and exposes their footprint through
+ * JMX.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ */
+class SessionFootprintMonitor
+        implements SessionFootprintMXBean, SessionInitListener,
+        SessionDestroyListener, ServiceDestroyListener {
+
+    private final VaadinService service;
+
+    // Weak references, the sessions are owned by the HTTP sessions
+    private final Set<VaadinSession> sessions = Collections
+            .synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private ObjectName name;
+
+    private SessionFootprintMonitor(VaadinService service) {
+        this.service = service;
+    }
+
+    /**
+     * Creates a monitor for the given service and registers it to the platform
+     * MBean server. The monitor is unregistered when the service is destroyed.
+     *
+     * @param service
+     *            the service to monitor, not <code>null</code>
+     */
+    static void register(VaadinService service) {
+        SessionFootprintMonitor monitor = new SessionFootprintMonitor(service);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(
+                    "com.vaadin.flow:type=SessionFootprint,service="
+                            + ObjectName.quote(service.getServiceName()));
+            server.registerMBean(monitor, name);
+            monitor.name = name;
+        } catch (JMException e) {
+            getLogger().warn("Unable to register the session footprint MBean",
+                    e);
+            return;
+        }
+        service.addSessionInitListener(monitor);
+        service.addSessionDestroyListener(monitor);
+        service.addServiceDestroyListener(monitor);
+    }
+
+    @Override
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    @Override
+    public long getSweptUICount() {
+        return service.getSweptUICount();
+    }
+
+    @Override
+    public long getSweptNodeCount() {
+        return service.getSweptNodeCount();
+    }
+
+    @Override
+    public SessionFootprint measure() {
+        List<VaadinSession> currentSessions;
+        synchronized (sessions) {
+            currentSessions = new ArrayList<>(sessions);
+        }
+        List<SessionFootprint> footprints = new ArrayList<>(
+                currentSessions.size());
+        for (VaadinSession session : currentSessions) {
+            footprints.add(service.measureFootprint(session));
+        }
+        return SessionFootprint.combine(footprints);
+    }
+
+    @Override
+    public void sessionInit(SessionInitEvent event) {
+        sessions.add(event.getSession());
+    }
+
+    @Override
+    public void sessionDestroy(SessionDestroyEvent event) {
+        sessions.remove(event.getSession());
+    }
+
+    @Override
+    public void serviceDestroy(ServiceDestroyEvent event) {
+        sessions.clear();
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            getLogger().debug("Unable to unregister the session footprint MBean",
+                    e);
+        }
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(SessionFootprintMonitor.class);
+    }
+}
@@ -15,7 +15,15 @@
  */
 package com.vaadin.flow.server;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.Serializable;
+import java.io.StringReader;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequestWrapper;
+
+import org.apache.commons.io.IOUtils;
 
 /**
  * RequestHandler which takes care of locking and unlocking of the VaadinSession
@@ -28,6 +36,24 @@ import java.io.IOException;
  */
 public abstract class SynchronizedRequestHandler implements RequestHandler {
 
+    /**
+     * Writes a response prepared while the session was locked. Used by
+     * handlers which read the request body and write the response without
+     * holding the session lock.
+     *
+     * @see SynchronizedRequestHandler#isReadAndWriteOutsideSessionLock()
+     */
+    @FunctionalInterface
+    public interface ResponseWriter extends Serializable {
+        /**
+         * Writes the response.
+         *
+         * @throws IOException
+         *             If an IO error occurred
+         */
+        void writeResponse() throws IOException;
+    }
+
     @Override
     public boolean handleRequest(VaadinSession session, VaadinRequest request,
             VaadinResponse response) throws IOException {
@@ -35,7 +61,25 @@ public abstract class SynchronizedRequestHandler implements RequestHandler {
             return false;
         }
 
-        session.lock();
+        if (isReadAndWriteOutsideSessionLock()
+                && request instanceof VaadinServletRequest) {
+            String requestBody = getRequestBody(request);
+            Optional<ResponseWriter> responseWriter;
+            lock(session, request);
+            try {
+                responseWriter = synchronizedHandleRequest(session, request,
+                        response, requestBody);
+            } finally {
+                session.unlock();
+            }
+            if (responseWriter.isPresent()) {
+                responseWriter.get().writeResponse();
+                return true;
+            }
+            return false;
+        }
+
+        lock(session, request);
         try {
             return synchronizedHandleRequest(session, request, response);
         } finally {
@@ -43,6 +87,15 @@ public abstract class SynchronizedRequestHandler implements RequestHandler {
         }
     }
 
+    private static void lock(VaadinSession session, VaadinRequest request) {
+        long lockStart = System.nanoTime();
+        session.lock();
+        RequestPhaseTimings.get(request)
+                .ifPresent(timings -> timings.addPhase(
+                        RequestPhaseTimings.LOCK_WAIT,
+                        System.nanoTime() - lockStart));
+    }
+
     /**
      * Identical to
      * {@link #handleRequest(VaadinSession, VaadinRequest, VaadinResponse)}
@@ -65,6 +118,97 @@ public abstract class SynchronizedRequestHandler implements RequestHandler {
     public abstract boolean synchronizedHandleRequest(VaadinSession session,
             VaadinRequest request, VaadinResponse response) throws IOException;
 
+    /**
+     * Gets whether the request body should be read before locking the session
+     * and the response written after unlocking it. When this returns
+     * <code>true</code>,
+     * {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse, String)}
+     * is called instead of
+     * {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse)},
+     * so that other requests for the same session are not blocked while a
+     * slow client is sending the request or receiving the response. Other
+     * requests than {@link VaadinServletRequest}s are always handled with the
+     * session locked.
+     * <p>
+     * The default implementation returns <code>false</code>.
+     *
+     * @return <code>true</code> if the request body is read and the response
+     *         written without holding the session lock, otherwise
+     *         <code>false</code>
+     */
+    protected boolean isReadAndWriteOutsideSessionLock() {
+        return false;
+    }
+
+    /**
+     * Handles a request with an already read request body while the
+     * {@link VaadinSession} is locked, and returns a writer for writing the
+     * response after the session has been unlocked. The response writer must
+     * not access the session or any UI state.
+     * <p>
+     * Called only if {@link #isReadAndWriteOutsideSessionLock()} returns
+     * <code>true</code>. The default implementation passes a request which
+     * reads the given body to
+     * {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse)},
+     * so the response is still written while the session is locked. Other
+     * requests than {@link VaadinServletRequest}s are passed as such, so the
+     * body is read with their {@link VaadinRequest#getReader()}.
+     *
+     * @param session
+     *            The session for the request
+     * @param request
+     *            The request to handle
+     * @param response
+     *            The response object to which a response can be written.
+     * @param requestBody
+     *            The body of the request, or <code>null</code> if the request
+     *            has no body
+     * @return a writer for the response if a response should be written and
+     *         no further request handlers should be called, otherwise an empty
+     *         optional
+     * @throws IOException
+     *             If an IO error occurred
+     */
+    protected Optional<ResponseWriter> synchronizedHandleRequest(
+            VaadinSession session, VaadinRequest request,
+            VaadinResponse response, String requestBody) throws IOException {
+        VaadinRequest bodyRequest = request;
+        if (request instanceof VaadinServletRequest) {
+            VaadinServletRequest servletRequest = (VaadinServletRequest) request;
+            String body = requestBody == null ? "" : requestBody;
+            bodyRequest = new VaadinServletRequest(
+                    new HttpServletRequestWrapper(servletRequest) {
+                        @Override
+                        public BufferedReader getReader() {
+                            return new BufferedReader(new StringReader(body));
+                        }
+                    }, servletRequest.getService());
+        }
+        if (synchronizedHandleRequest(session, bodyRequest, response)) {
+            return Optional.of(() -> {
+                // the response has already been written
+            });
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the whole body of the given request. Called before the session is
+     * locked if {@link #isReadAndWriteOutsideSessionLock()} returns
+     * <code>true</code>.
+     *
+     * @param request
+     *            the request to read
+     * @return the request body, or <code>null</code> if the request has no
+     *         reader
+     * @throws IOException
+     *             If reading the request body fails
+     */
+    protected String getRequestBody(VaadinRequest request) throws IOException {
+        BufferedReader reader = request.getReader();
+        return reader == null ? null : IOUtils.toString(reader);
+    }
+
     /**
      * Check whether a request may be handled by this handler. This can be used
      * as an optimization to avoid locking the session just to investigate some
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.component.UI;
+
+/**
+ * Hashed timer wheel keeping track of the heartbeat deadlines of UIs, so that
+ * UIs which have stopped sending heartbeats can be closed in the background
+ * instead of only at the end of the next request to the same session.
+ * <p>
+ * Heartbeats don't touch the wheel. When the deadline of a UI is reached, the
+ * deadline is calculated again from the last heartbeat timestamp, and the UI
+ * is either moved to a later slot or handed over to the expiration handler.
+ * <p>
+ * The wheels of all services share one timer thread. The thread is started
+ * when the first UI is scheduled and ends a minute after all wheels have been
+ * stopped.
+ * <p>
+ * For internal use only. May be renamed or removed in a future release.
+ */
+class UIExpirationWheel {
+
+    static final int WHEEL_SIZE = 64;
+
+    private static final class Entry {
+        private final WeakReference<UI> ui;
+
+        private Entry(UI ui) {
+            this.ui = new WeakReference<>(ui);
+        }
+    }
+
+    private final long tickMillis;
+    private final long timeoutMillis;
+    private final Consumer<UI> expirationHandler;
+
+    private final List<Queue<Entry>> slots = new ArrayList<>(WHEEL_SIZE);
+
+    // The last tick whose slot has been processed
+    private volatile long lastTick;
+
+    // Shared by the wheels of all services, so that there is at most one
+    // timer thread
+    private static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private ScheduledFuture<?> timer;
+
+    /**
+     * Creates a new timer wheel.
+     *
+     * @param tickMillis
+     *            the length of one slot of the wheel in milliseconds
+     * @param timeoutMillis
+     *            the time after the last heartbeat when a UI expires
+     * @param expirationHandler
+     *            the handler to call for expired UIs, called from the timer
+     *            thread
+     */
+    UIExpirationWheel(long tickMillis, long timeoutMillis,
+            Consumer<UI> expirationHandler) {
+        this.tickMillis = tickMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.expirationHandler = expirationHandler;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            slots.add(new ConcurrentLinkedQueue<>());
+        }
+        lastTick = System.currentTimeMillis() / tickMillis - 1;
+    }
+
+    /**
+     * Starts tracking the heartbeat deadline of the given UI.
+     *
+     * @param ui
+     *            the UI to track, not <code>null</code>
+     */
+    void schedule(UI ui) {
+        ensureStarted();
+        add(new Entry(ui), getDeadline(ui));
+    }
+
+    /**
+     * Stops advancing the wheel. UIs scheduled after this start the wheel
+     * again.
+     */
+    synchronized void stop() {
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+    }
+
+    /**
+     * Processes all the slots of the ticks which have fully elapsed since the
+     * previous call. Called periodically by the timer thread.
+     *
+     * @param now
+     *            the current time in milliseconds
+     */
+    void advance(long now) {
+        // The current tick hasn't elapsed yet, so it may still contain
+        // deadlines in the future
+        long tick = now / tickMillis - 1;
+        // Every slot is visited at most once per call
+        long firstTick = Math.max(lastTick + 1, tick - WHEEL_SIZE + 1);
+        lastTick = tick;
+        for (long current = firstTick; current <= tick; current++) {
+            Queue<Entry> slot = getSlot(current);
+            // Entries re-added to the same slot are left for the next round
+            for (int count = slot.size(); count > 0; count--) {
+                Entry entry = slot.poll();
+                if (entry == null) {
+                    break;
+                }
+                process(entry, now);
+            }
+        }
+    }
+
+    private void process(Entry entry, long now) {
+        UI ui = entry.ui.get();
+        if (ui == null || ui.isClosing()) {
+            return;
+        }
+        long deadline = getDeadline(ui);
+        if (deadline > now) {
+            add(entry, deadline);
+            return;
+        }
+        try {
+            expirationHandler.accept(ui);
+        } catch (RuntimeException e) {
+            getLogger().warn("Unable to close inactive UI", e);
+        }
+    }
+
+    private long getDeadline(UI ui) {
+        return ui.getInternals().getLastHeartbeatTimestamp() + timeoutMillis;
+    }
+
+    private void add(Entry entry, long deadline) {
+        // A deadline in an already processed tick is handled with the next
+        // tick instead of when the wheel comes around again
+        getSlot(Math.max(deadline / tickMillis, lastTick + 1)).add(entry);
+    }
+
+    private Queue<Entry> getSlot(long tick) {
+        return slots.get((int) (tick % WHEEL_SIZE));
+    }
+
+    private synchronized void ensureStarted() {
+        if (timer == null) {
+            timer = EXECUTOR.scheduleWithFixedDelay(
+                    () -> advance(System.currentTimeMillis()), tickMillis,
+                    tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                1, runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "vaadin-ui-expiration");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        // The thread is started for the first scheduled wheel and ends when it
+        // has been idle for a minute after all wheels have been stopped
+        executor.setRemoveOnCancelPolicy(true);
+        executor.setKeepAliveTime(1, TimeUnit.MINUTES);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static Logger getLogger() {
+        return LoggerFactory.getLogger(UIExpirationWheel.class);
+    }
+}
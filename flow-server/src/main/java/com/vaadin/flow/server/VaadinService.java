@@ -43,6 +43,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -52,6 +54,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
 import com.vaadin.flow.di.DefaultInstantiator;
 import com.vaadin.flow.di.Instantiator;
 import com.vaadin.flow.function.DeploymentConfiguration;
@@ -159,6 +162,8 @@ public abstract class VaadinService implements Serializable {
     private ClassLoader classLoader;
 
     private Iterable<RequestHandler> requestHandlers;
+    private Map<String, List<RequestHandler>> requestHandlersByType;
+    private List<RequestHandler> untypedRequestHandlers;
 
     private Iterable<BootstrapListener> bootstrapListeners;
 
@@ -189,6 +194,13 @@ public abstract class VaadinService implements Serializable {
 
     private VaadinContext vaadinContext;
 
+    private VaadinSessionSerializer sessionSerializer;
+
+    private transient UIExpirationWheel uiExpirationWheel;
+
+    private final AtomicLong sweptUICount = new AtomicLong();
+    private final AtomicLong sweptNodeCount = new AtomicLong();
+
     /**
      * Creates a new vaadin service based on a deployment configuration.
      *
@@ -250,6 +262,8 @@ public abstract class VaadinService implements Serializable {
 
         List<RequestHandler> handlers = createRequestHandlers();
 
+        sessionSerializer = createSessionSerializer();
+
         ServiceInitEvent event = new ServiceInitEvent(this);
 
         // allow service init listeners and DI to use thread local access to
@@ -263,6 +277,7 @@ public abstract class VaadinService implements Serializable {
             Collections.reverse(handlers);
 
             requestHandlers = Collections.unmodifiableCollection(handlers);
+            initRequestHandlerDispatch(handlers);
 
             dependencyFilters = instantiator
                     .getDependencyFilters(event.getAddedDependencyFilters())
@@ -290,6 +305,17 @@ public abstract class VaadinService implements Serializable {
         if (getDeploymentConfiguration().isPnpmEnabled()) {
             UsageStatistics.markAsUsed("flow/pnpm",null);
         }
+        int heartbeatInterval = configuration.getHeartbeatInterval();
+        if (heartbeatInterval > 0) {
+            uiExpirationWheel = new UIExpirationWheel(
+                    1000L * heartbeatInterval, 1000L * getHeartbeatTimeout(),
+                    this::closeInactiveUI);
+        }
+        if (configuration.getBooleanProperty(
+                InitParameters.SERVLET_PARAMETER_SESSION_FOOTPRINT_MBEAN,
+                false)) {
+            SessionFootprintMonitor.register(this);
+        }
 
         initialized = true;
     }
@@ -358,6 +384,40 @@ public abstract class VaadinService implements Serializable {
         return handlers;
     }
 
+    /**
+     * Creates the serializer used for writing the sessions of this service
+     * when they are serialized, e.g. for session replication.
+     * <p>
+     * By default no serializer is used and sessions are written using default
+     * Java serialization. Override this method to e.g. return a
+     * {@link CompactVaadinSessionSerializer}.
+     * <p>
+     * With a serializer, the session is written separately from the other
+     * attributes of the HTTP session. Any other HTTP session attribute
+     * referring to UIs or components of the session will refer to separate
+     * copies of them after deserialization.
+     *
+     * @return the session serializer to use, or <code>null</code> to use
+     *         default Java serialization
+     * @throws ServiceException
+     *             if a problem occurs when creating the serializer
+     */
+    protected VaadinSessionSerializer createSessionSerializer()
+            throws ServiceException {
+        return null;
+    }
+
+    /**
+     * Gets the serializer used for writing the sessions of this service.
+     *
+     * @return the session serializer, or <code>null</code> if default Java
+     *         serialization is used
+     * @see #createSessionSerializer()
+     */
+    public VaadinSessionSerializer getSessionSerializer() {
+        return sessionSerializer;
+    }
+
     private boolean hasWebComponentConfigurations() {
         WebComponentConfigurationRegistry registry = WebComponentConfigurationRegistry
                 .getInstance(getContext());
@@ -624,6 +684,18 @@ public abstract class VaadinService implements Serializable {
                 listener -> listener.modifyIndexHtmlResponse(response));
     }
 
+    /**
+     * Checks whether there are any {@link IndexHtmlRequestListener}s
+     * registered for this service.
+     *
+     * @return {@code true} if at least one listener is registered,
+     *         {@code false} otherwise
+     */
+    public boolean hasIndexHtmlRequestListeners() {
+        return indexHtmlRequestListeners != null
+                && indexHtmlRequestListeners.iterator().hasNext();
+    }
+
     /**
      * Handles destruction of the given session. Internally ensures proper
      * locking is done.
@@ -1264,6 +1336,9 @@ public abstract class VaadinService implements Serializable {
      * Called at the end of a request, after sending the response. Closes
      * inactive UIs in the given session, removes closed UIs from the session,
      * and closes the session if it is itself inactive.
+     * <p>
+     * UIs created by this service are also closed in the background once they
+     * have stopped sending heartbeats, without waiting for another request.
      *
      * @param session
      */
@@ -1331,6 +1406,65 @@ public abstract class VaadinService implements Serializable {
         }
     }
 
+    /**
+     * Closes and removes the given UI if it is still inactive. Called in the
+     * background when the heartbeat deadline of the UI has passed.
+     * <p>
+     * For internal use only. May be renamed or removed in a future release.
+     *
+     * @param ui
+     *            the UI whose heartbeat deadline has passed
+     */
+    void closeInactiveUI(UI ui) {
+        VaadinSession session = ui.getSession();
+        if (session == null || session.getSession() == null
+                || session.getState() != VaadinSessionState.OPEN) {
+            return;
+        }
+        try {
+            // Runs right away unless a request is holding the session lock
+            ui.access(() -> {
+                if (!ui.isClosing() && isUIActive(ui)) {
+                    uiExpirationWheel.schedule(ui);
+                    return;
+                }
+                AtomicInteger nodeCount = new AtomicInteger();
+                ui.getInternals().getStateTree().getRootNode()
+                        .visitNodeTree(node -> nodeCount.incrementAndGet());
+
+                getLogger().debug("Closing inactive UI #{} in session {}",
+                        ui.getUIId(), session.getSession().getId());
+                ui.close();
+                session.removeUI(ui);
+
+                sweptUICount.incrementAndGet();
+                sweptNodeCount.addAndGet(nodeCount.get());
+            });
+        } catch (UIDetachedException e) {
+            // Already removed from the session
+        }
+    }
+
+    /**
+     * Gets the number of inactive UIs closed in the background since the
+     * service was initialized.
+     *
+     * @return the number of closed UIs
+     */
+    long getSweptUICount() {
+        return sweptUICount.get();
+    }
+
+    /**
+     * Gets the number of state nodes in the inactive UIs closed in the
+     * background since the service was initialized.
+     *
+     * @return the number of state nodes
+     */
+    long getSweptNodeCount() {
+        return sweptNodeCount.get();
+    }
+
     /**
      * Returns the number of seconds that must pass without a valid heartbeat or
      * UIDL request being received from a UI before that UI is removed from its
@@ -1450,6 +1584,9 @@ public abstract class VaadinService implements Serializable {
         }
         setCurrentInstances(request, response);
         request.setAttribute(REQUEST_START_TIME_ATTRIBUTE, System.nanoTime());
+        if (getDeploymentConfiguration().isRequestTiming()) {
+            RequestPhaseTimings.start(request);
+        }
     }
 
     /**
@@ -1493,6 +1630,45 @@ public abstract class VaadinService implements Serializable {
         return requestHandlers;
     }
 
+    /**
+     * Builds the lists of request handlers that may handle a request of each
+     * request type, keeping the invocation order of the handlers. Handlers
+     * restricted to one request type are left out from the lists of the other
+     * types and from the list for requests without a known type.
+     */
+    private void initRequestHandlerDispatch(List<RequestHandler> handlers) {
+        Map<String, List<RequestHandler>> byType = new HashMap<>();
+        for (RequestType type : RequestType.values()) {
+            byType.put(type.getIdentifier(),
+                    handlers.stream().filter(handler -> {
+                        RequestType handledType = handler
+                                .getHandledRequestType();
+                        return handledType == null || handledType == type;
+                    }).collect(Collectors.collectingAndThen(
+                            Collectors.toList(),
+                            Collections::unmodifiableList)));
+        }
+        requestHandlersByType = byType;
+        untypedRequestHandlers = Collections.unmodifiableList(handlers
+                .stream()
+                .filter(handler -> handler.getHandledRequestType() == null)
+                .collect(Collectors.toList()));
+    }
+
+    // Package-private for testing
+    Iterable<RequestHandler> getRequestHandlers(VaadinRequest request) {
+        Iterable<RequestHandler> handlers = getRequestHandlers();
+        if (handlers != requestHandlers || requestHandlersByType == null) {
+            // the handlers have been overridden, no dispatch table for them
+            return handlers;
+        }
+        String type = request
+                .getParameter(ApplicationConstants.REQUEST_TYPE_PARAMETER);
+        List<RequestHandler> typeHandlers = type == null ? null
+                : requestHandlersByType.get(type);
+        return typeHandlers == null ? untypedRequestHandlers : typeHandlers;
+    }
+
     /**
      * Gets the filters which all resource dependencies are passed through
      * before being sent to the client for loading.
@@ -1507,6 +1683,8 @@ public abstract class VaadinService implements Serializable {
     /**
      * Handles the incoming request and writes the response into the response
      * object. Uses {@link #getRequestHandlers()} for handling the request.
+     * Handlers which are restricted to another request type, see
+     * {@link RequestHandler#getHandledRequestType()}, are skipped.
      * <p>
      * If a session expiration is detected during request handling then each
      * {@link RequestHandler request handler} has an opportunity to handle the
@@ -1535,7 +1713,7 @@ public abstract class VaadinService implements Serializable {
                 return;
             }
 
-            for (RequestHandler handler : getRequestHandlers()) {
+            for (RequestHandler handler : getRequestHandlers(request)) {
                 if (handler.handleRequest(vaadinSession, request, response)) {
                     return;
                 }
@@ -2065,6 +2243,27 @@ public abstract class VaadinService implements Serializable {
         ServiceDestroyEvent event = new ServiceDestroyEvent(this);
         serviceDestroyListeners
                 .forEach(listener -> listener.serviceDestroy(event));
+        if (uiExpirationWheel != null) {
+            uiExpirationWheel.stop();
+        }
+    }
+
+    /**
+     * Measures the approximate memory footprint of the given session. The
+     * session is locked while it is measured.
+     *
+     * @param session
+     *            the session to measure, not <code>null</code>
+     * @return the footprint of the session
+     * @see SessionFootprintMXBean
+     */
+    public SessionFootprint measureFootprint(VaadinSession session) {
+        session.lock();
+        try {
+            return SessionFootprint.measure(session);
+        } finally {
+            session.unlock();
+        }
     }
 
     /**
@@ -2207,6 +2406,10 @@ public abstract class VaadinService implements Serializable {
     public void fireUIInitListeners(UI ui) {
         UIInitEvent initEvent = new UIInitEvent(ui, this);
         uiInitListeners.forEach(listener -> listener.uiInit(initEvent));
+
+        if (uiExpirationWheel != null) {
+            uiExpirationWheel.schedule(ui);
+        }
     }
 
     /**
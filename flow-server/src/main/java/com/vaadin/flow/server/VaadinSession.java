@@ -18,6 +18,7 @@ package com.vaadin.flow.server;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
@@ -119,6 +120,17 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
      */
     private transient ConcurrentLinkedQueue<FutureAccess> pendingAccessQueue = new ConcurrentLinkedQueue<>();
 
+    /*
+     * Incremented whenever the session lock is released, used for reusing
+     * the serialized form of an unchanged session.
+     */
+    private transient volatile int modificationCount;
+
+    // Only kept if the session serializer reuses the serialized form
+    private transient SerializedVaadinSession serializedForm;
+
+    private transient int serializedModificationCount;
+
     /*
      * Despite section 6 of RFC 4122, this particular use of UUID *is* adequate
      * for security capabilities. Type 4 UUIDs contain 122 bits of random data,
@@ -680,6 +692,11 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
                 }
             }
         } finally {
+            if (ultimateRelease) {
+                // Counted last so that changes made by pending access tasks
+                // and push are covered
+                modificationCount++;
+            }
             getLockInstance().unlock();
         }
 
@@ -999,6 +1016,36 @@ public class VaadinSession implements HttpSessionBindingListener, Serializable {
         }
     }
 
+    /**
+     * Replaces the session with the data written by the session serializer of
+     * the service, if there is one.
+     *
+     * @return the object to serialize instead of this session
+     * @throws ObjectStreamException
+     *             if the serializer fails to write the session
+     * @see VaadinService#createSessionSerializer()
+     */
+    protected Object writeReplace() throws ObjectStreamException {
+        VaadinSessionSerializer serializer = service == null ? null
+                : service.getSessionSerializer();
+        if (serializer == null || SerializedVaadinSession.isWriting()) {
+            return this;
+        }
+        if (!serializer.isSerializedFormReused()) {
+            return SerializedVaadinSession.write(this, serializer);
+        }
+        synchronized (this) {
+            int count = modificationCount;
+            if (serializedForm == null
+                    || serializedModificationCount != count) {
+                serializedForm = SerializedVaadinSession.write(this,
+                        serializer);
+                serializedModificationCount = count;
+            }
+            return serializedForm;
+        }
+    }
+
     /**
      * Refreshes the transient fields of the session to ensure they are up to
      * date.
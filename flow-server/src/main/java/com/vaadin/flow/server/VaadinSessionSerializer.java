@@ -0,0 +1,89 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+
+/**
+ * Writes and reads the serialized form of a {@link VaadinSession}.
+ * <p>
+ * If {@link VaadinService#createSessionSerializer()} provides a serializer, a
+ * {@link VaadinSession} is replaced by the data written by the serializer
+ * whenever it is serialized, e.g. when the servlet container replicates or
+ * persists the HTTP session. If {@link #isSerializedFormReused()} returns
+ * {@code true}, the data is only written again if the session has been
+ * locked since the previous time.
+ * <p>
+ * The serializer itself is serialized together with the data, so that the
+ * session can be read on another node.
+ * <p>
+ * The session is written as a separate object graph, which doesn't share
+ * object identity with the rest of the serialized data. If other HTTP session
+ * attributes refer to UIs, components or other objects of the session, they
+ * are deserialized as copies which are separate from the objects of the
+ * deserialized session. A serializer should only be used if no such
+ * references exist.
+ *
+ * @see CompactVaadinSessionSerializer
+ */
+public interface VaadinSessionSerializer extends Serializable {
+
+    /**
+     * Writes the given session to the stream.
+     *
+     * @param session
+     *            the session to write, not <code>null</code>
+     * @param stream
+     *            the stream to write to, not <code>null</code>
+     * @throws IOException
+     *             if writing the session fails
+     */
+    void write(VaadinSession session, OutputStream stream) throws IOException;
+
+    /**
+     * Reads a session written by {@link #write(VaadinSession, OutputStream)}
+     * from the stream.
+     *
+     * @param stream
+     *            the stream to read from, not <code>null</code>
+     * @return the read session, not <code>null</code>
+     * @throws IOException
+     *             if reading the session fails
+     * @throws ClassNotFoundException
+     *             if a class of the serialized session cannot be found
+     */
+    VaadinSession read(InputStream stream)
+            throws IOException, ClassNotFoundException;
+
+    /**
+     * Checks whether the serialized form of a session is kept in memory and
+     * reused for as long as the session isn't locked again.
+     * <p>
+     * Reusing the serialized form avoids writing an unchanged session again,
+     * e.g. when the HTTP session is replicated after every request, at the
+     * cost of keeping the serialized data of each session in memory until it
+     * is locked the next time.
+     *
+     * @return {@code true} to reuse the serialized form of an unchanged
+     *         session, {@code false} to always write the session again
+     */
+    default boolean isSerializedFormReused() {
+        return false;
+    }
+}
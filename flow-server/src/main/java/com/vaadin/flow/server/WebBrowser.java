@@ -17,7 +17,10 @@
 package com.vaadin.flow.server;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Locale;
+import java.util.Map;
 
 import com.vaadin.flow.shared.BrowserDetails;
 
@@ -34,6 +37,29 @@ import com.vaadin.flow.shared.BrowserDetails;
  */
 public class WebBrowser implements Serializable {
 
+    /**
+     * Maximum number of distinct user agents for which the parsed details are
+     * shared between sessions. The least recently used user agents are evicted
+     * from the cache.
+     */
+    static final int BROWSER_DETAILS_CACHE_SIZE = 1000;
+
+    /**
+     * User agents longer than this are parsed for each session.
+     */
+    static final int MAX_CACHED_USER_AGENT_LENGTH = 512;
+
+    // Parsed details never change, so they can be shared between sessions
+    private static final Map<String, BrowserDetails> BROWSER_DETAILS_CACHE = Collections
+            .synchronizedMap(
+                    new LinkedHashMap<String, BrowserDetails>(16, 0.75f, true) {
+                        @Override
+                        protected boolean removeEldestEntry(
+                                Map.Entry<String, BrowserDetails> eldest) {
+                            return size() > BROWSER_DETAILS_CACHE_SIZE;
+                        }
+                    });
+
     private String browserApplication = null;
     private Locale locale;
     private String address;
@@ -307,8 +333,31 @@ public class WebBrowser implements Serializable {
 
         if (agent != null) {
             browserApplication = agent;
-            browserDetails = new BrowserDetails(agent);
+            browserDetails = getBrowserDetails(agent);
+        }
+    }
+
+    /**
+     * Gets the parsed details for the given user agent, reusing the details
+     * parsed for an earlier session with the same user agent when possible.
+     *
+     * @param agent
+     *            the user agent, not <code>null</code>
+     * @return the browser details
+     */
+    static BrowserDetails getBrowserDetails(String agent) {
+        BrowserDetails details = BROWSER_DETAILS_CACHE.get(agent);
+        if (details == null) {
+            details = new BrowserDetails(agent);
+            if (agent.length() <= MAX_CACHED_USER_AGENT_LENGTH) {
+                BrowserDetails existing = BROWSER_DETAILS_CACHE
+                        .putIfAbsent(agent, details);
+                if (existing != null) {
+                    details = existing;
+                }
+            }
         }
+        return details;
     }
 
     /**
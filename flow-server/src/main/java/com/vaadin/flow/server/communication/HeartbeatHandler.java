@@ -50,6 +50,11 @@ public class HeartbeatHandler extends SynchronizedRequestHandler
         return HandlerHelper.isRequestType(request, RequestType.HEARTBEAT);
     }
 
+    @Override
+    public RequestType getHandledRequestType() {
+        return RequestType.HEARTBEAT;
+    }
+
     /**
      * Handles a heartbeat request for the given session. Reads the GET
      * parameter named {@link ApplicationConstants#UI_ID_PARAMETER} to identify
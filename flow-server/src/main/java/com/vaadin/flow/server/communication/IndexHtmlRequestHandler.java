@@ -16,6 +16,7 @@
 package com.vaadin.flow.server.communication;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.io.UncheckedIOException;
 
@@ -28,12 +29,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.page.AppShellConfigurator;
 import com.vaadin.flow.function.DeploymentConfiguration;
 import com.vaadin.flow.internal.BootstrapHandlerHelper;
 import com.vaadin.flow.internal.BrowserLiveReload;
 import com.vaadin.flow.internal.BrowserLiveReloadAccess;
 import com.vaadin.flow.internal.UsageStatisticsExporter;
 import com.vaadin.flow.server.AppShellRegistry;
+import com.vaadin.flow.server.AppShellSettings;
 import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.VaadinContext;
 import com.vaadin.flow.server.VaadinRequest;
@@ -57,6 +60,11 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * This class is responsible for serving the <code>index.html</code> according
  * to the template provided in the frontend folder. The handler will calculate and
  * inject baseHref as well as the bundle scripts into the template.
+ * <p>
+ * In production mode the page is precompiled once when possible, so that
+ * only the base href and the initial JSON are written per request. The page
+ * is built through the DOM when {@link IndexHtmlRequestListener}s need to
+ * modify it.
  */
 public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
 
@@ -67,11 +75,16 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
             VaadinRequest request, VaadinResponse response) throws IOException {
         DeploymentConfiguration config = session.getConfiguration();
 
+        IndexHtmlTemplate template = getIndexHtmlTemplate(session, request);
+        if (template != null) {
+            return writeFromTemplate(template, session, request, response);
+        }
+
         Document indexDocument = config.isProductionMode()
                 ? getCachedIndexHtmlDocument(request.getService())
                 : getIndexHtmlDocument(request.getService());
 
-        prependBaseHref(request, indexDocument);
+        prependBaseHref(indexDocument, getServiceUrl(request));
 
         JsonObject initialJson = Json.createObject();
 
@@ -149,17 +162,78 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
         }
     }
 
+    /**
+     * Serves the page from the precompiled template, which only needs the
+     * base href and the initial JSON to be written into it.
+     */
+    private boolean writeFromTemplate(IndexHtmlTemplate template,
+            VaadinSession session, VaadinRequest request,
+            VaadinResponse response) {
+        JsonObject initialJson = Json.createObject();
+        if (request.getService().getBootstrapInitialPredicate()
+                .includeInitialUidl(request)) {
+            includeInitialUidl(initialJson, session, request, response);
+
+            // App might be using classic server-routing, which is true
+            // unless we detect a call to JavaScriptBootstrapUI.connectClient
+            session.setAttribute(SERVER_ROUTING, Boolean.TRUE);
+        }
+        addCsrfToken(initialJson, session);
+
+        response.setContentType(CONTENT_TYPE_TEXT_HTML_UTF_8);
+        try {
+            template.write(response.getOutputStream(), getServiceUrl(request),
+                    JsonUtil.stringify(initialJson));
+        } catch (IOException e) {
+            getLogger().error("Error writing 'index.html' to response", e);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the precompiled template for the page, or {@code null} if the page
+     * has to be built through the DOM for this request.
+     * <p>
+     * The template is only used in production mode when there are no
+     * {@link IndexHtmlRequestListener}s and the app shell doesn't customize
+     * the page per request, since the page is otherwise the same for every
+     * request except for the base href and the initial JSON.
+     */
+    private static IndexHtmlTemplate getIndexHtmlTemplate(
+            VaadinSession session, VaadinRequest request) {
+        DeploymentConfiguration config = session.getConfiguration();
+        VaadinService service = request.getService();
+        if (!config.isProductionMode() || config.isDevModeLiveReloadEnabled()
+                || service.hasIndexHtmlRequestListeners()) {
+            return null;
+        }
+        return service.getContext()
+                .getAttribute(IndexHtmlTemplateHolder.class,
+                        () -> new IndexHtmlTemplateHolder(service, request))
+                .getTemplate();
+    }
+
     private void addInitialFlow(JsonObject initialJson, Document indexDocument,
                                 VaadinSession session) {
+        addCsrfToken(initialJson, session);
+        addInitialFlow(indexDocument, JsonUtil.stringify(initialJson));
+    }
+
+    private static void addCsrfToken(JsonObject initialJson,
+            VaadinSession session) {
         String csrfToken = session.getCsrfToken();
         if (csrfToken != null) {
             initialJson.put(CSRF_TOKEN, csrfToken);
         }
+    }
 
+    private static void addInitialFlow(Document indexDocument,
+            String initialJson) {
         Element elm = new Element("script");
         elm.attr("initial", "");
         elm.appendChild(new DataNode(
-                "window.Vaadin = {TypeScript: " + JsonUtil.stringify(initialJson) + "};"
+                "window.Vaadin = {TypeScript: " + initialJson + "};"
         ));
         indexDocument.head().insertChildren(0, elm);
     }
@@ -185,16 +259,15 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
         }
     }
 
-    private void configureErrorDialogStyles(Document document) {
+    private static void configureErrorDialogStyles(Document document) {
         Element styles = document.createElement("style");
         document.head().appendChild(styles);
         setupErrorDialogs(styles);
     }
 
-    private static void prependBaseHref(VaadinRequest request,
-            Document indexDocument) {
+    private static void prependBaseHref(Document indexDocument,
+            String baseHref) {
         Elements base = indexDocument.head().getElementsByTag("base");
-        String baseHref = getServiceUrl(request);
         if (base.isEmpty()) {
             indexDocument.head().prependElement("base").attr("href", baseHref);
         } else {
@@ -254,6 +327,112 @@ public class IndexHtmlRequestHandler extends JavaScriptBootstrapHandler {
         }
     }
 
+    // Holds the precompiled index.html template in production mode
+    //
+    // This holder is supposed to be stored as a VaadinContext attribute. The
+    // template is null if the page can't be precompiled.
+    private static final class IndexHtmlTemplateHolder
+            implements Serializable {
+        private final IndexHtmlTemplate template;
+
+        private IndexHtmlTemplateHolder(VaadinService service,
+                VaadinRequest request) {
+            this.template = IndexHtmlTemplate.compile(service, request);
+        }
+
+        private IndexHtmlTemplate getTemplate() {
+            return template;
+        }
+    }
+
+    // The index.html page split into pre-encoded static parts around the
+    // insertion points of the base href and the initial JSON
+    private static final class IndexHtmlTemplate implements Serializable {
+        private static final String BASE_HREF_PLACEHOLDER = "@flow-base-href@";
+        private static final String INITIAL_JSON_PLACEHOLDER = "@flow-initial-json@";
+
+        private final byte[][] segments;
+        private final boolean baseHrefFirst;
+
+        private IndexHtmlTemplate(byte[][] segments, boolean baseHrefFirst) {
+            this.segments = segments;
+            this.baseHrefFirst = baseHrefFirst;
+        }
+
+        private static IndexHtmlTemplate compile(VaadinService service,
+                VaadinRequest request) {
+            AppShellRegistry registry = AppShellRegistry
+                    .getInstance(service.getContext());
+            if (hasCustomPageConfiguration(registry.getShell())) {
+                return null;
+            }
+
+            // Apply the same modifications as for a DOM built page, in the
+            // same order, so that the output is identical
+            Document document = getCachedIndexHtmlDocument(service);
+            prependBaseHref(document, BASE_HREF_PLACEHOLDER);
+            addInitialFlow(document, INITIAL_JSON_PLACEHOLDER);
+            configureErrorDialogStyles(document);
+            setupPwa(document, service);
+            registry.modifyIndexHtml(document, request);
+
+            String html = document.html();
+            int baseHref = html.indexOf(BASE_HREF_PLACEHOLDER);
+            int initialJson = html.indexOf(INITIAL_JSON_PLACEHOLDER);
+            if (baseHref < 0 || initialJson < 0
+                    || baseHref != html.lastIndexOf(BASE_HREF_PLACEHOLDER)
+                    || initialJson != html
+                            .lastIndexOf(INITIAL_JSON_PLACEHOLDER)) {
+                getLogger().debug(
+                        "Unable to precompile 'index.html', the page is "
+                                + "built for each request");
+                return null;
+            }
+
+            boolean baseHrefFirst = baseHref < initialJson;
+            int first = Math.min(baseHref, initialJson);
+            int second = Math.max(baseHref, initialJson);
+            int firstEnd = first + (baseHrefFirst
+                    ? BASE_HREF_PLACEHOLDER.length()
+                    : INITIAL_JSON_PLACEHOLDER.length());
+            int secondEnd = second + (baseHrefFirst
+                    ? INITIAL_JSON_PLACEHOLDER.length()
+                    : BASE_HREF_PLACEHOLDER.length());
+            byte[][] segments = new byte[][] {
+                    html.substring(0, first).getBytes(UTF_8),
+                    html.substring(firstEnd, second).getBytes(UTF_8),
+                    html.substring(secondEnd).getBytes(UTF_8) };
+            return new IndexHtmlTemplate(segments, baseHrefFirst);
+        }
+
+        private static boolean hasCustomPageConfiguration(
+                Class<? extends AppShellConfigurator> shell) {
+            if (shell == null) {
+                return false;
+            }
+            try {
+                return !AppShellConfigurator.class.equals(shell
+                        .getMethod("configurePage", AppShellSettings.class)
+                        .getDeclaringClass());
+            } catch (NoSuchMethodException e) {
+                return true;
+            }
+        }
+
+        private void write(OutputStream stream, String baseHref,
+                String initialJson) throws IOException {
+            byte[] href = baseHref.replace("&", "&amp;")
+                    .replace("\"", "&quot;").getBytes(UTF_8);
+            byte[] json = initialJson.getBytes(UTF_8);
+
+            stream.write(segments[0]);
+            stream.write(baseHrefFirst ? href : json);
+            stream.write(segments[1]);
+            stream.write(baseHrefFirst ? json : href);
+            stream.write(segments[2]);
+        }
+    }
+
     private static Logger getLogger() {
         return LoggerFactory.getLogger(IndexHtmlRequestHandler.class);
     }
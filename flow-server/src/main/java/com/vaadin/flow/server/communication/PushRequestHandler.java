@@ -231,6 +231,11 @@ public class PushRequestHandler
         return atmosphere;
     }
 
+    @Override
+    public RequestType getHandledRequestType() {
+        return RequestType.PUSH;
+    }
+
     @Override
     public boolean handleRequest(VaadinSession session, VaadinRequest request,
             VaadinResponse response) throws IOException {
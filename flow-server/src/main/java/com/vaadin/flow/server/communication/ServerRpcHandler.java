@@ -34,8 +34,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.UI;
+import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.internal.MessageDigestUtil;
+import com.vaadin.flow.internal.StateNode;
+import com.vaadin.flow.internal.nodefeature.ComponentMapping;
 import com.vaadin.flow.server.ErrorEvent;
+import com.vaadin.flow.server.RequestPhaseTimings;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.communication.rpc.AttachExistingElementRpcHandler;
@@ -240,9 +244,27 @@ public class ServerRpcHandler implements Serializable {
      */
     public void handleRpc(UI ui, Reader reader, VaadinRequest request)
             throws IOException, InvalidUIDLSecurityKeyException {
-        ui.getSession().setLastRequestTimestamp(System.currentTimeMillis());
+        handleRpc(ui, getMessage(reader), request);
+    }
 
-        String changeMessage = getMessage(reader);
+    /**
+     * Executes zero or more serialized RPC calls (including legacy variable
+     * changes) from an already read JSON message.
+     *
+     * @param ui
+     *            The {@link UI} receiving the calls. Cannot be null.
+     * @param changeMessage
+     *            The JSON message, or <code>null</code> if the request had no
+     *            body
+     * @param request
+     *            The request through which the RPC was received
+     * @throws InvalidUIDLSecurityKeyException
+     *             If the received security key does not match the one stored in
+     *             the session.
+     */
+    public void handleRpc(UI ui, String changeMessage, VaadinRequest request)
+            throws InvalidUIDLSecurityKeyException {
+        ui.getSession().setLastRequestTimestamp(System.currentTimeMillis());
 
         if (changeMessage == null || changeMessage.equals("")) {
             // The client sometimes sends empty messages, this is probably a bug
@@ -314,7 +336,15 @@ public class ServerRpcHandler implements Serializable {
             // Message id ok, process RPCs
             ui.getInternals().setLastProcessedClientToServerId(expectedId,
                     messageHash);
-            handleInvocations(ui, rpcRequest.getRpcInvocationsData());
+            RequestPhaseTimings timings = RequestPhaseTimings.get(request)
+                    .orElse(null);
+            long rpcStart = System.nanoTime();
+            handleInvocations(ui, rpcRequest.getRpcInvocationsData(),
+                    timings);
+            if (timings != null) {
+                timings.addPhase(RequestPhaseTimings.RPC,
+                        System.nanoTime() - rpcStart);
+            }
         }
 
         if (rpcRequest.isResynchronize()) {
@@ -365,8 +395,12 @@ public class ServerRpcHandler implements Serializable {
      * @param invocationsData
      *            JSON containing all information needed to execute all
      *            requested RPC calls.
+     * @param timings
+     *            the timings to add the time spent per component to, or
+     *            <code>null</code> if timings are not collected
      */
-    private void handleInvocations(UI ui, JsonArray invocationsData) {
+    private void handleInvocations(UI ui, JsonArray invocationsData,
+            RequestPhaseTimings timings) {
         List<JsonObject> data = new ArrayList<>(invocationsData.length());
         List<Runnable> pendingChangeEvents = new ArrayList<>();
 
@@ -387,7 +421,31 @@ public class ServerRpcHandler implements Serializable {
         }
 
         pendingChangeEvents.forEach(runnable -> runMapSyncTask(ui, runnable));
-        data.forEach(json -> handleInvocationData(ui, json));
+        if (timings == null) {
+            data.forEach(json -> handleInvocationData(ui, json));
+        } else {
+            data.forEach(json -> {
+                String componentType = getComponentType(ui, json);
+                long start = System.nanoTime();
+                handleInvocationData(ui, json);
+                timings.addComponent(componentType, System.nanoTime() - start);
+            });
+        }
+    }
+
+    private static String getComponentType(UI ui, JsonObject invocationJson) {
+        if (!invocationJson.hasKey(JsonConstants.RPC_NODE)) {
+            return ui.getClass().getName();
+        }
+        StateNode node = ui.getInternals().getStateTree()
+                .getNodeById((int) invocationJson
+                        .getNumber(JsonConstants.RPC_NODE));
+        if (node == null || !node.hasFeature(ComponentMapping.class)) {
+            return Element.class.getName();
+        }
+        return ComponentMapping.getComponent(node)
+                .map(component -> component.getClass().getName())
+                .orElse(Element.class.getName());
     }
 
     private void runMapSyncTask(UI ui, Runnable runnable) {
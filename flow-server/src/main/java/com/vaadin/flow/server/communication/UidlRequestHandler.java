@@ -16,10 +16,12 @@
 
 package com.vaadin.flow.server.communication;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -35,6 +37,7 @@ import com.vaadin.flow.server.SynchronizedRequestHandler;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinServletRequest;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.server.communication.ServerRpcHandler.InvalidUIDLSecurityKeyException;
 import com.vaadin.flow.server.communication.ServerRpcHandler.ResynchronizationRequiredException;
@@ -87,6 +90,11 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
         return HandlerHelper.isRequestType(request, RequestType.UIDL);
     }
 
+    @Override
+    public RequestType getHandledRequestType() {
+        return RequestType.UIDL;
+    }
+
     /**
      * Creates the ServerRpcHandler to use.
      *
@@ -96,34 +104,64 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
         return new ServerRpcHandler();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @deprecated {@link #handleRequest(VaadinSession, VaadinRequest, VaadinResponse)}
+     *             calls this only for other requests than
+     *             {@link VaadinServletRequest}s. Override
+     *             {@link #synchronizedHandleRequest(VaadinSession, VaadinRequest, VaadinResponse, String)}
+     *             instead.
+     */
     @Override
+    @Deprecated
     public boolean synchronizedHandleRequest(VaadinSession session,
             VaadinRequest request, VaadinResponse response) throws IOException {
+        Optional<ResponseWriter> responseWriter = synchronizedHandleRequest(
+                session, request, response, getRequestBody(request));
+        if (responseWriter.isPresent()) {
+            responseWriter.get().writeResponse();
+        }
+        return true;
+    }
+
+    @Override
+    protected boolean isReadAndWriteOutsideSessionLock() {
+        return true;
+    }
+
+    @Override
+    protected String getRequestBody(VaadinRequest request) throws IOException {
+        BufferedReader reader = request.getReader();
+        return reader == null ? null : getRpcHandler().getMessage(reader);
+    }
+
+    @Override
+    protected Optional<ResponseWriter> synchronizedHandleRequest(
+            VaadinSession session, VaadinRequest request,
+            VaadinResponse response, String requestBody) throws IOException {
         UI uI = session.getService().findUI(request);
         if (uI == null) {
             // This should not happen but it will if the UI has been closed. We
             // really don't want to see it in the server logs though
-            commitJsonResponse(response,
-                    VaadinService.createUINotFoundJSON(false));
-            return true;
+            return Optional.of(() -> commitJsonResponse(response,
+                    VaadinService.createUINotFoundJSON(false)));
         }
 
         StringWriter stringWriter = new StringWriter();
 
         try {
-            getRpcHandler(session).handleRpc(uI, request.getReader(), request);
+            getRpcHandler(session).handleRpc(uI, requestBody, request);
             writeUidl(uI, stringWriter, false);
         } catch (JsonException e) {
             getLogger().error("Error writing JSON to response", e);
             // Refresh on client side
-            writeRefresh(response);
-            return true;
+            return Optional.of(() -> writeRefresh(response));
         } catch (InvalidUIDLSecurityKeyException e) {
             getLogger().warn("Invalid security key received from {}",
                     request.getRemoteHost());
             // Refresh on client side
-            writeRefresh(response);
-            return true;
+            return Optional.of(() -> writeRefresh(response));
         } catch (ResynchronizationRequiredException e) { // NOSONAR
             // Resync on the client side
             writeUidl(uI, stringWriter, true);
@@ -131,11 +169,21 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
             stringWriter.close();
         }
 
-        commitJsonResponse(response, stringWriter.toString());
-        return true;
+        String json = stringWriter.toString();
+        if (uI.getPushConfiguration().getPushMode().isEnabled()) {
+            /*
+             * Unlocking the session may push changes with a later sync id, so
+             * the response is written first to keep the messages in order.
+             */
+            commitJsonResponse(response, json);
+            return Optional.of(() -> {
+                // the response has already been written
+            });
+        }
+        return Optional.of(() -> commitJsonResponse(response, json));
     }
 
-    private void writeRefresh(VaadinResponse response) throws IOException {
+    private static void writeRefresh(VaadinResponse response) throws IOException {
         String json = VaadinService.createCriticalNotificationJSON(null, null,
                 null, null);
         commitJsonResponse(response, json);
@@ -185,6 +233,10 @@ public class UidlRequestHandler extends SynchronizedRequestHandler
 
     private ServerRpcHandler getRpcHandler(VaadinSession session) {
         session.checkHasLock();
+        return getRpcHandler();
+    }
+
+    private ServerRpcHandler getRpcHandler() {
         if (rpcHandler == null) {
             rpcHandler = createRpcHandler();
         }
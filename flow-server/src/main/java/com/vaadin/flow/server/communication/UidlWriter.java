@@ -30,7 +30,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Stream;
 
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
@@ -38,11 +37,14 @@ import org.slf4j.LoggerFactory;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.Composite;
+import com.vaadin.flow.component.HasElement;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.internal.DependencyList;
 import com.vaadin.flow.component.internal.PendingJavaScriptInvocation;
 import com.vaadin.flow.component.internal.UIInternals;
 import com.vaadin.flow.function.SerializableConsumer;
+import com.vaadin.flow.internal.ConstantPool;
+import com.vaadin.flow.internal.ConstantPoolKey;
 import com.vaadin.flow.internal.JsonCodec;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.internal.StateNode;
@@ -53,6 +55,7 @@ import com.vaadin.flow.internal.nodefeature.ComponentMapping;
 import com.vaadin.flow.internal.nodefeature.ReturnChannelMap;
 import com.vaadin.flow.internal.nodefeature.ReturnChannelRegistration;
 import com.vaadin.flow.server.DependencyFilter;
+import com.vaadin.flow.server.RequestPhaseTimings;
 import com.vaadin.flow.server.SystemMessages;
 import com.vaadin.flow.server.VaadinService;
 import com.vaadin.flow.server.VaadinSession;
@@ -78,6 +81,18 @@ import elemental.json.JsonValue;
 public class UidlWriter implements Serializable {
     private static final String COULD_NOT_READ_URL_CONTENTS_ERROR_MESSAGE = "Could not read url %s contents";
 
+    /**
+     * Expressions shorter than this are sent inline instead of through the
+     * constant pool.
+     */
+    static final int MIN_POOLED_EXPRESSION_LENGTH = 32;
+
+    /**
+     * Expressions longer than this are sent inline, since they are kept in the
+     * interned constant pool keys shared by all sessions.
+     */
+    static final int MAX_POOLED_EXPRESSION_LENGTH = 1024;
+
     /**
      * Provides context information for the resolve operations.
      */
@@ -131,6 +146,9 @@ public class UidlWriter implements Serializable {
      * @return JSON object containing the UIDL response
      */
     public JsonObject createUidl(UI ui, boolean async, boolean resync) {
+        long encodeStart = System.nanoTime();
+        RequestPhaseTimings timings = RequestPhaseTimings.getCurrent()
+                .orElse(null);
         JsonObject response = Json.createObject();
 
         UIInternals uiInternals = ui.getInternals();
@@ -169,11 +187,19 @@ public class UidlWriter implements Serializable {
 
         JsonArray stateChanges = Json.createArray();
 
-        encodeChanges(ui, stateChanges);
+        encodeChanges(ui, stateChanges, timings);
 
         populateDependencies(response, uiInternals.getDependencyList(),
                 new ResolveContext(service, session.getBrowser()));
 
+        // Encoded before the constants since expressions may be added to the
+        // constant pool
+        List<PendingJavaScriptInvocation> executeJavaScriptList = uiInternals
+                .dumpPendingJavaScriptInvocations();
+        JsonArray executeJavaScript = executeJavaScriptList.isEmpty() ? null
+                : encodeExecuteJavaScriptList(executeJavaScriptList,
+                        uiInternals.getConstantPool());
+
         if (uiInternals.getConstantPool().hasNewConstants()) {
             response.put("constants",
                     uiInternals.getConstantPool().dumpConstants());
@@ -181,17 +207,19 @@ public class UidlWriter implements Serializable {
         if (stateChanges.length() != 0) {
             response.put("changes", stateChanges);
         }
-
-        List<PendingJavaScriptInvocation> executeJavaScriptList = uiInternals
-                .dumpPendingJavaScriptInvocations();
-        if (!executeJavaScriptList.isEmpty()) {
-            response.put(JsonConstants.UIDL_KEY_EXECUTE,
-                    encodeExecuteJavaScriptList(executeJavaScriptList));
+        if (executeJavaScript != null) {
+            response.put(JsonConstants.UIDL_KEY_EXECUTE, executeJavaScript);
         }
         if (ui.getSession().getService().getDeploymentConfiguration()
                 .isRequestTiming()) {
             response.put("timings", createPerformanceData(ui));
         }
+        if (timings != null) {
+            timings.addPhase(RequestPhaseTimings.ENCODE,
+                    System.nanoTime() - encodeStart - timings.getPhase(
+                            RequestPhaseTimings.BEFORE_CLIENT_RESPONSE));
+            response.put("phaseTimings", timings.toJson(getRouteTarget(ui)));
+        }
         uiInternals.incrementServerId();
         return response;
     }
@@ -299,9 +327,19 @@ public class UidlWriter implements Serializable {
     // non-private for testing purposes
     static JsonArray encodeExecuteJavaScriptList(
             List<PendingJavaScriptInvocation> executeJavaScriptList) {
-        return executeJavaScriptList.stream()
-                .map(UidlWriter::encodeExecuteJavaScript)
-                .collect(JsonUtils.asArray());
+        return encodeExecuteJavaScriptList(executeJavaScriptList, null);
+    }
+
+    // non-private for testing purposes
+    static JsonArray encodeExecuteJavaScriptList(
+            List<PendingJavaScriptInvocation> executeJavaScriptList,
+            ConstantPool constantPool) {
+        JsonArray json = Json.createArray();
+        for (PendingJavaScriptInvocation invocation : executeJavaScriptList) {
+            json.set(json.length(),
+                    encodeExecuteJavaScript(invocation, constantPool));
+        }
+        return json;
     }
 
     private static ReturnChannelRegistration createReturnValueChannel(
@@ -321,14 +359,18 @@ public class UidlWriter implements Serializable {
     }
 
     private static JsonArray encodeExecuteJavaScript(
-            PendingJavaScriptInvocation invocation) {
-        List<Object> parametersList = invocation.getInvocation()
-                .getParameters();
-
-        Stream<Object> parameters = parametersList.stream();
+            PendingJavaScriptInvocation invocation,
+            ConstantPool constantPool) {
         String expression = invocation.getInvocation().getExpression();
 
-        if (invocation.isSubscribed()) {
+        // [argument1, argument2, ..., script]
+        JsonArray json = Json.createArray();
+        for (Object parameter : invocation.getInvocation().getParameters()) {
+            json.set(json.length(), JsonCodec.encodeWithTypeInfo(parameter));
+        }
+
+        boolean subscribed = invocation.isSubscribed();
+        if (subscribed) {
             StateNode owner = invocation.getOwner();
 
             List<ReturnChannelRegistration> channels = new ArrayList<>();
@@ -338,36 +380,59 @@ public class UidlWriter implements Serializable {
             ReturnChannelRegistration errorChannel = createReturnValueChannel(
                     owner, channels, invocation::completeExceptionally);
 
-            // Inject both channels as new parameters
-            parameters = Stream.concat(parameters,
-                    Stream.of(successChannel, errorChannel));
-            int successIndex = parametersList.size();
-            int errorIndex = successIndex + 1;
-
-            /*
-             * Run the original expression wrapped in a function to capture any
-             * return statement. Pass the return value through Promise.resolve
-             * which resolves regular values immediately and waits for thenable
-             * values. Call either of the handlers once the promise completes.
-             * If the expression throws synchronously, run the error handler.
-             */
-            //@formatter:off
-            expression =
-                  "try{"
-                +   "Promise.resolve((function(){"
-                +     expression
-                +   "})()).then($"+successIndex+",function(error){$"+errorIndex+"(''+error)})"
-                + "}catch(error){"
-                +   "$"+errorIndex+"(''+error)"
-                + "}";
-            //@formatter:on
+            // Inject both channels as new parameters. The client wraps the
+            // expression to pass the result to the channels.
+            json.set(json.length(),
+                    JsonCodec.encodeWithTypeInfo(successChannel));
+            json.set(json.length(), JsonCodec.encodeWithTypeInfo(errorChannel));
         }
 
-        // [argument1, argument2, ..., script]
-        return Stream
-                .concat(parameters.map(JsonCodec::encodeWithTypeInfo),
-                        Stream.of(Json.create(expression)))
-                .collect(JsonUtils.asArray());
+        ConstantPoolKey expressionKey = constantPool == null ? null
+                : getExpressionKey(expression);
+        if (!subscribed && expressionKey == null) {
+            json.set(json.length(), expression);
+        } else {
+            JsonObject script = Json.createObject();
+            if (expressionKey != null) {
+                script.put(JsonConstants.EXECUTE_EXPRESSION_CONSTANT,
+                        constantPool.getConstantId(expressionKey));
+            } else {
+                script.put(JsonConstants.EXECUTE_EXPRESSION, expression);
+            }
+            if (subscribed) {
+                script.put(JsonConstants.EXECUTE_RETURN_CHANNELS, true);
+            }
+            json.set(json.length(), script);
+        }
+        return json;
+    }
+
+    /**
+     * Gets the constant pool key for sending the given expression through the
+     * constant pool, so that each UI receives it only once.
+     * <p>
+     * An expression is only sent through the constant pool once it has been
+     * seen before, so that expressions which are used only once, e.g. because
+     * they contain values, don't fill up the constant pools. The expressions
+     * are recognized using {@link ConstantPoolKey#intern(JsonValue)}.
+     *
+     * @param expression
+     *            the expression
+     * @return the constant pool key, or <code>null</code> if the expression
+     *         should be sent inline
+     */
+    private static ConstantPoolKey getExpressionKey(String expression) {
+        if (expression.length() < MIN_POOLED_EXPRESSION_LENGTH
+                || expression.length() > MAX_POOLED_EXPRESSION_LENGTH) {
+            return null;
+        }
+        JsonValue json = Json.create(expression);
+        ConstantPoolKey key = ConstantPoolKey.getInterned(json);
+        if (key == null) {
+            // Interned to recognize the expression when it is used again
+            ConstantPoolKey.intern(json);
+        }
+        return key;
     }
 
     /**
@@ -380,13 +445,23 @@ public class UidlWriter implements Serializable {
      *            the UI
      * @param stateChanges
      *            a JSON array to put state changes into
+     * @param timings
+     *            the timings to add the time spent in the before client
+     *            response executions to, or <code>null</code> if timings are
+     *            not collected
      * @see StateTree#runExecutionsBeforeClientResponse()
      */
-    private void encodeChanges(UI ui, JsonArray stateChanges) {
+    private void encodeChanges(UI ui, JsonArray stateChanges,
+            RequestPhaseTimings timings) {
         UIInternals uiInternals = ui.getInternals();
         StateTree stateTree = uiInternals.getStateTree();
 
+        long executionsStart = System.nanoTime();
         stateTree.runExecutionsBeforeClientResponse();
+        if (timings != null) {
+            timings.addPhase(RequestPhaseTimings.BEFORE_CLIENT_RESPONSE,
+                    System.nanoTime() - executionsStart);
+        }
 
         Set<Class<? extends Component>> componentsWithDependencies = new LinkedHashSet<>();
         stateTree.collectChanges(change -> {
@@ -431,6 +506,13 @@ public class UidlWriter implements Serializable {
         return timings;
     }
 
+    private static String getRouteTarget(UI ui) {
+        List<HasElement> routeTargets = ui.getInternals()
+                .getActiveRouterTargetsChain();
+        return routeTargets.isEmpty() ? null
+                : routeTargets.get(0).getClass().getName();
+    }
+
     private static final Logger getLogger() {
         return LoggerFactory.getLogger(UidlWriter.class.getName());
     }
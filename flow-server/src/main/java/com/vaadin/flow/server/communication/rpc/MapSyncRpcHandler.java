@@ -77,13 +77,10 @@ public class MapSyncRpcHandler extends AbstractRpcInvocationHandler {
         String property = invocationJson.getString(JsonConstants.RPC_PROPERTY);
 
         if (node.hasFeature(ElementListenerMap.class)) {
-            DisabledUpdateMode eventMode = node
-                    .getFeature(ElementListenerMap.class)
-                    .getPropertySynchronizationMode(property);
-
-            if (eventMode != null) {
-                seenUpdateModes.add(eventMode);
-            }
+            node.getFeatureIfInitialized(ElementListenerMap.class)
+                    .map(listeners -> listeners
+                            .getPropertySynchronizationMode(property))
+                    .ifPresent(seenUpdateModes::add);
         }
 
         DisabledUpdateMode updateMode = seenUpdateModes.stream()
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.frontend;
+
+import java.io.File;
+import java.util.Collection;
+
+/**
+ * A command which declares its inputs as a fingerprint and the files it
+ * writes, so that it can be skipped when it has already been run with the
+ * same inputs and its outputs still exist.
+ * <p>
+ * Note that this interface is not serializable and should not be used in a web
+ * application.
+ *
+ * @author Vaadin Ltd
+ * @see NodeTasks
+ */
+interface FingerprintedCommand extends FallibleCommand {
+
+    /**
+     * Gets a fingerprint of all the inputs of this command. The fingerprint
+     * must change whenever running the command could produce a different
+     * result.
+     *
+     * @return the fingerprint of the inputs, or <code>null</code> if the
+     *         command should always be run
+     */
+    String getInputFingerprint();
+
+    /**
+     * Gets the files and folders written by this command. The command is run
+     * if any of them doesn't exist.
+     *
+     * @return the outputs of this command, not <code>null</code>
+     */
+    Collection<File> getOutputs();
+}
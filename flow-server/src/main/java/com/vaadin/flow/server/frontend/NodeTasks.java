@@ -497,7 +497,10 @@ public class NodeTasks implements FallibleCommand {
 
     private final Collection<FallibleCommand> commands = new ArrayList<>();
 
+    private final File npmFolder;
+
     private NodeTasks(Builder builder) {
+        npmFolder = builder.npmFolder;
 
         ClassFinder classFinder = new ClassFinder.CachedClassFinder(
                 builder.classFinder);
@@ -630,8 +633,11 @@ public class NodeTasks implements FallibleCommand {
 
     @Override
     public void execute() throws ExecutionFailedException {
-        for (FallibleCommand command : commands) {
-            command.execute();
+        TaskFingerprints fingerprints = new TaskFingerprints(npmFolder);
+        try {
+            fingerprints.execute(commands);
+        } finally {
+            fingerprints.save();
         }
     }
 
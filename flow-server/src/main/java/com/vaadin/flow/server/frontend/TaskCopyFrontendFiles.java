@@ -16,6 +16,10 @@
 package com.vaadin.flow.server.frontend;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -32,7 +36,7 @@ import static com.vaadin.flow.server.Constants.RESOURCES_FRONTEND_DEFAULT;
  *
  * @since 2.0
  */
-public class TaskCopyFrontendFiles implements FallibleCommand {
+public class TaskCopyFrontendFiles implements FingerprintedCommand {
     private static final String[] WILDCARD_INCLUSIONS = new String[] {
             "**/*.js", "**/*.css", "**/*.ts" };
 
@@ -86,6 +90,26 @@ public class TaskCopyFrontendFiles implements FallibleCommand {
                 resourceLocations.size(), ms);
     }
 
+    @Override
+    public String getInputFingerprint() {
+        List<File> inputs = new ArrayList<>();
+        for (File location : resourceLocations) {
+            if (location.isDirectory()) {
+                inputs.add(new File(location, RESOURCES_FRONTEND_DEFAULT));
+                inputs.add(new File(location,
+                        COMPATIBILITY_RESOURCES_FRONTEND_DEFAULT));
+            } else {
+                inputs.add(location);
+            }
+        }
+        return TaskFingerprints.getFilesFingerprint(inputs);
+    }
+
+    @Override
+    public Collection<File> getOutputs() {
+        return Collections.singleton(targetDirectory);
+    }
+
     private Logger log() {
         return LoggerFactory.getLogger(this.getClass());
     }
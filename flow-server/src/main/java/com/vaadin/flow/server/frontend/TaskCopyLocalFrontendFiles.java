@@ -18,6 +18,8 @@ package com.vaadin.flow.server.frontend;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Objects;
 
 import org.apache.commons.io.FileUtils;
@@ -29,7 +31,7 @@ import org.slf4j.LoggerFactory;
  *
  * @since 2.0
  */
-public class TaskCopyLocalFrontendFiles implements FallibleCommand {
+public class TaskCopyLocalFrontendFiles implements FingerprintedCommand {
 
     private final File flowResourcesFolder;
     private final File localResourcesFolder;
@@ -62,6 +64,18 @@ public class TaskCopyLocalFrontendFiles implements FallibleCommand {
         }
     }
 
+    @Override
+    public String getInputFingerprint() {
+        return TaskFingerprints.getFilesFingerprint(localResourcesFolder == null
+                ? Collections.<File> emptyList()
+                : Collections.singleton(localResourcesFolder));
+    }
+
+    @Override
+    public Collection<File> getOutputs() {
+        return Collections.singleton(flowResourcesFolder);
+    }
+
     static void copyLocalResources(File source, File target) {
         if (!source.isDirectory() || !target.isDirectory()) {
             return;
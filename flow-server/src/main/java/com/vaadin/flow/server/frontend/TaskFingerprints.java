@@ -0,0 +1,316 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.frontend;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.vaadin.flow.internal.MessageDigestUtil;
+import com.vaadin.flow.server.ExecutionFailedException;
+
+import elemental.json.Json;
+import elemental.json.JsonException;
+import elemental.json.JsonObject;
+import elemental.json.JsonType;
+import elemental.json.JsonValue;
+
+import static com.vaadin.flow.server.frontend.FrontendUtils.NODE_MODULES;
+import static elemental.json.impl.JsonUtil.stringify;
+
+/**
+ * Runs {@link FingerprintedCommand}s only when their inputs have changed
+ * since the last run or their outputs are missing or have been modified. The
+ * fingerprints of the commands are persisted in the <code>node_modules</code>
+ * folder, next to the local installation data of {@link TaskRunNpmInstall}.
+ * <p>
+ * Commands writing to the same output are run together: if any of them has
+ * to be run, all of them are run, since one command may overwrite files
+ * written by another one.
+ */
+class TaskFingerprints {
+
+    static final String FINGERPRINTS_FILE = ".vaadin/task-fingerprints.json";
+
+    private static final String INPUTS = "inputs";
+    private static final String OUTPUTS = "outputs";
+
+    private final File fingerprintsFile;
+    private JsonObject fingerprints;
+    private boolean loaded;
+
+    // Outputs written or to be written during this run, a command writing to
+    // such an output can't be skipped since it might have overridden files
+    private final Set<File> staleOutputs = new HashSet<>();
+
+    // Commands run or skipped during this run, by key
+    private final Map<String, FingerprintedCommand> commands = new LinkedHashMap<>();
+
+    // The jars and folders don't change during a run, so the input
+    // fingerprints are computed only once
+    private final Map<FingerprintedCommand, String> inputFingerprints = new HashMap<>();
+
+    private boolean modified;
+
+    /**
+     * Creates an instance using the fingerprints stored in the given npm
+     * folder.
+     *
+     * @param npmFolder
+     *            folder with the `package.json` file
+     */
+    TaskFingerprints(File npmFolder) {
+        fingerprintsFile = new File(new File(npmFolder, NODE_MODULES),
+                FINGERPRINTS_FILE);
+        loaded = fingerprintsFile.exists();
+        fingerprints = read(fingerprintsFile);
+    }
+
+    /**
+     * Executes the given commands in order. {@link FingerprintedCommand}s are
+     * executed with {@link #execute(FingerprintedCommand)}, after all outputs
+     * of the commands which are not up to date have been marked as stale.
+     *
+     * @param commands
+     *            the commands to execute, not <code>null</code>
+     * @throws ExecutionFailedException
+     *             if a command fails
+     */
+    void execute(Collection<? extends FallibleCommand> commands)
+            throws ExecutionFailedException {
+        for (FallibleCommand command : commands) {
+            if (command instanceof FingerprintedCommand) {
+                FingerprintedCommand fingerprinted = (FingerprintedCommand) command;
+                if (!isUpToDate(fingerprinted)) {
+                    staleOutputs.addAll(fingerprinted.getOutputs());
+                }
+            }
+        }
+        for (FallibleCommand command : commands) {
+            if (command instanceof FingerprintedCommand) {
+                execute((FingerprintedCommand) command);
+            } else {
+                command.execute();
+            }
+        }
+    }
+
+    /**
+     * Executes the given command unless it has already been executed with the
+     * same input fingerprint, its outputs haven't been modified since and no
+     * other command writes to its outputs during this run.
+     *
+     * @param command
+     *            the command to execute, not <code>null</code>
+     * @throws ExecutionFailedException
+     *             if the command fails
+     */
+    void execute(FingerprintedCommand command)
+            throws ExecutionFailedException {
+        if (loaded && !fingerprintsFile.exists()) {
+            // node_modules and generated files have been cleaned up by an
+            // earlier command, so none of the fingerprints is valid anymore
+            fingerprints = Json.createObject();
+            loaded = false;
+            modified = true;
+        }
+
+        String key = getKey(command);
+        Collection<File> outputs = command.getOutputs();
+        if (isUpToDate(command)
+                && outputs.stream().noneMatch(staleOutputs::contains)) {
+            log().info("Skipping {}, inputs are unchanged since last run",
+                    command.getClass().getSimpleName());
+            commands.put(key, command);
+            return;
+        }
+
+        if (fingerprints.hasKey(key)) {
+            fingerprints.remove(key);
+            modified = true;
+        }
+        command.execute();
+        staleOutputs.addAll(outputs);
+        commands.put(key, command);
+    }
+
+    /**
+     * Stores the fingerprints of the executed commands together with the
+     * current state of their outputs.
+     */
+    void save() {
+        for (Map.Entry<String, FingerprintedCommand> entry : commands
+                .entrySet()) {
+            FingerprintedCommand command = entry.getValue();
+            String inputs = getInputFingerprint(command);
+            String outputs = getFilesFingerprint(command.getOutputs());
+            JsonObject previous = getFingerprint(entry.getKey());
+            if (inputs == null || outputs == null) {
+                if (previous != null) {
+                    fingerprints.remove(entry.getKey());
+                    modified = true;
+                }
+            } else if (previous == null
+                    || !inputs.equals(previous.getString(INPUTS))
+                    || !outputs.equals(previous.getString(OUTPUTS))) {
+                JsonObject fingerprint = Json.createObject();
+                fingerprint.put(INPUTS, inputs);
+                fingerprint.put(OUTPUTS, outputs);
+                fingerprints.put(entry.getKey(), fingerprint);
+                modified = true;
+            }
+        }
+        commands.clear();
+        inputFingerprints.clear();
+
+        // The file is gone if node_modules has been cleaned during the run
+        if (!modified && (fingerprintsFile.exists()
+                || fingerprints.keys().length == 0)) {
+            return;
+        }
+        try {
+            FileUtils.forceMkdirParent(fingerprintsFile);
+            FileUtils.writeStringToFile(fingerprintsFile,
+                    stringify(fingerprints, 2) + "\n",
+                    StandardCharsets.UTF_8);
+            modified = false;
+        } catch (IOException e) {
+            log().warn("Failed to store the task fingerprints to '{}'",
+                    fingerprintsFile, e);
+        }
+    }
+
+    private boolean isUpToDate(FingerprintedCommand command) {
+        JsonObject previous = getFingerprint(getKey(command));
+        if (previous == null) {
+            return false;
+        }
+        String inputs = getInputFingerprint(command);
+        Collection<File> outputs = command.getOutputs();
+        return inputs != null && inputs.equals(previous.getString(INPUTS))
+                && outputs.stream().allMatch(File::exists)
+                && previous.getString(OUTPUTS)
+                        .equals(getFilesFingerprint(outputs));
+    }
+
+    private JsonObject getFingerprint(String key) {
+        if (!fingerprints.hasKey(key)) {
+            return null;
+        }
+        JsonValue value = fingerprints.get(key);
+        if (value.getType() != JsonType.OBJECT) {
+            return null;
+        }
+        JsonObject fingerprint = (JsonObject) value;
+        return fingerprint.hasKey(INPUTS) && fingerprint.hasKey(OUTPUTS)
+                ? fingerprint
+                : null;
+    }
+
+    private static String getKey(FingerprintedCommand command) {
+        return command.getClass().getName();
+    }
+
+    private String getInputFingerprint(FingerprintedCommand command) {
+        return inputFingerprints.computeIfAbsent(command, key -> {
+            String fingerprint = key.getInputFingerprint();
+            if (fingerprint == null) {
+                return null;
+            }
+            // Outputs are part of the fingerprint, since running the command
+            // with another target doesn't update the previous target
+            return fingerprint + key.getOutputs().stream()
+                    .map(File::getAbsolutePath).sorted()
+                    .collect(Collectors.joining("\n", "\n", ""));
+        });
+    }
+
+    /**
+     * Gets a fingerprint of the given files based on their paths, sizes and
+     * modification times. Folders are included with all files inside them,
+     * and files which don't exist are included by their path.
+     *
+     * @param files
+     *            the files and folders to get the fingerprint for, not
+     *            <code>null</code>
+     * @return the fingerprint, or <code>null</code> if a folder can't be
+     *         read
+     */
+    static String getFilesFingerprint(Collection<File> files) {
+        List<String> entries = new ArrayList<>();
+        for (File file : files) {
+            if (file.isDirectory()) {
+                try (Stream<Path> paths = Files.walk(file.toPath())) {
+                    paths.map(Path::toFile).filter(File::isFile)
+                            .map(TaskFingerprints::describe)
+                            .forEach(entries::add);
+                } catch (IOException | UncheckedIOException e) {
+                    log().debug("Failed to list the files in '{}'", file, e);
+                    return null;
+                }
+            } else {
+                entries.add(describe(file));
+            }
+        }
+        Collections.sort(entries);
+        return Base64.getEncoder().encodeToString(
+                MessageDigestUtil.sha256(String.join("\n", entries)));
+    }
+
+    private static String describe(File file) {
+        if (!file.exists()) {
+            return file.getAbsolutePath();
+        }
+        return file.getAbsolutePath() + ':' + file.length() + ':'
+                + file.lastModified();
+    }
+
+    private static JsonObject read(File file) {
+        if (file.exists()) {
+            try {
+                return Json.parse(FileUtils.readFileToString(file,
+                        StandardCharsets.UTF_8));
+            } catch (IOException | JsonException e) {
+                log().debug("Failed to read the task fingerprints from '{}'",
+                        file, e);
+            }
+        }
+        return Json.createObject();
+    }
+
+    private static Logger log() {
+        return LoggerFactory.getLogger(TaskFingerprints.class);
+    }
+}
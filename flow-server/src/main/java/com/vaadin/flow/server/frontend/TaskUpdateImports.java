@@ -417,8 +417,13 @@ public class TaskUpdateImports extends NodeUpdater {
                 JsonObject buildInfo = json.isEmpty() ? Json.createObject()
                         : JsonUtil.parse(json);
                 populateFallbackData(buildInfo, updater);
-                FileUtils.write(tokenFile, JsonUtil.stringify(buildInfo, 2),
-                        StandardCharsets.UTF_8);
+                String updated = JsonUtil.stringify(buildInfo, 2);
+                // Don't touch the file if the fallback data is unchanged,
+                // since a rewrite triggers a recompilation in webpack
+                if (!updated.equals(json)) {
+                    FileUtils.write(tokenFile, updated,
+                            StandardCharsets.UTF_8);
+                }
             }
 
         } catch (IOException e) {
@@ -21,6 +21,7 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -54,12 +55,34 @@ public abstract class AbstractRouteRegistryInitializer implements Serializable {
      *            potential route classes
      * @return a resulting set of the route component classes
      */
-    @SuppressWarnings("unchecked")
     protected Set<Class<? extends Component>> validateRouteClasses(
             Stream<Class<?>> routeClasses) {
+        return validateRouteClasses(routeClasses, clazz -> true);
+    }
 
-        return routeClasses.peek(this::checkForConflictingAnnotations)
-                .filter(this::isApplicableClass)
+    /**
+     * Validate the potential route classes stream and return them as a set.
+     * <p>
+     * Only the classes accepted by {@code requiresValidation} are checked for
+     * conflicting annotations, which allows skipping the reflective checks for
+     * classes that have already been validated at build time.
+     *
+     * @param routeClasses
+     *            potential route classes
+     * @param requiresValidation
+     *            predicate telling whether a class still needs to be validated
+     * @return a resulting set of the route component classes
+     */
+    @SuppressWarnings("unchecked")
+    protected Set<Class<? extends Component>> validateRouteClasses(
+            Stream<Class<?>> routeClasses,
+            Predicate<Class<?>> requiresValidation) {
+
+        return routeClasses.peek(clazz -> {
+            if (requiresValidation.test(clazz)) {
+                checkForConflictingAnnotations(clazz);
+            }
+        }).filter(this::isApplicableClass)
                 .map(target -> (Class<? extends Component>) target)
                 .collect(Collectors.toSet());
     }
@@ -19,7 +19,19 @@ import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
 import javax.servlet.annotation.HandlesTypes;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.LoggerFactory;
 
 import com.googlecode.gentyref.GenericTypeReflector;
 
@@ -31,8 +43,24 @@ import com.vaadin.flow.server.AmbiguousRouteConfigurationException;
 import com.vaadin.flow.server.InvalidRouteConfigurationException;
 import com.vaadin.flow.server.VaadinServletContext;
 
+import elemental.json.JsonArray;
+import elemental.json.JsonException;
+import elemental.json.JsonObject;
+import elemental.json.impl.JsonUtil;
+
+import static com.vaadin.flow.server.Constants.ROUTE_INDEX_TOKEN;
+import static com.vaadin.flow.server.Constants.VAADIN_SERVLET_RESOURCES;
+import static com.vaadin.flow.server.frontend.FrontendUtils.TOKEN_FILE;
+
 /**
  * Servlet initializer for collecting all available {@link Route}s on startup.
+ * <p>
+ * When the application has been packaged with the {@code build-frontend}
+ * goal, the build info file contains an index of the route classes which were
+ * already validated at build time. If the index lists exactly the classes
+ * found on startup, they are registered without repeating the conflicting
+ * annotation checks. Otherwise the index is out of date and all classes are
+ * validated.
  *
  * @since 1.0
  */
@@ -52,8 +80,10 @@ public class RouteRegistryInitializer extends AbstractRouteRegistryInitializer
                 return;
             }
 
+            boolean validatedAtBuildTime = isRouteIndexUpToDate(
+                    readRouteIndex(servletContext), classSet);
             Set<Class<? extends Component>> routes = validateRouteClasses(
-                    classSet.stream());
+                    classSet.stream(), clazz -> !validatedAtBuildTime);
 
             ApplicationRouteRegistry routeRegistry = ApplicationRouteRegistry
                     .getInstance(context);
@@ -71,6 +101,87 @@ public class RouteRegistryInitializer extends AbstractRouteRegistryInitializer
         }
     }
 
+    /**
+     * Validates the given route classes and collects the names of the
+     * validated classes.
+     * <p>
+     * This is used at build time to generate the route index stored in the
+     * build info file.
+     *
+     * @param classes
+     *            the classes annotated with {@link Route} or
+     *            {@link RouteAlias}
+     * @return the sorted names of the validated classes
+     * @throws InvalidRouteConfigurationException
+     *             if any of the classes has an invalid route configuration
+     */
+    public static List<String> collectRouteIndex(Set<Class<?>> classes) {
+        new RouteRegistryInitializer().validateRouteClasses(classes.stream());
+        return classes.stream().map(Class::getName).sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Checks whether the route index lists exactly the scanned classes. Any
+     * difference means that the index is out of date, in which case all
+     * classes are validated again.
+     */
+    private static boolean isRouteIndexUpToDate(Set<String> routeIndex,
+            Set<Class<?>> classSet) {
+        if (routeIndex.isEmpty()) {
+            return false;
+        }
+        boolean upToDate = routeIndex.size() == classSet.size() && classSet
+                .stream().allMatch(clazz -> routeIndex.contains(clazz.getName()));
+        if (!upToDate) {
+            LoggerFactory.getLogger(RouteRegistryInitializer.class).debug(
+                    "The route index in the build info doesn't match the "
+                            + "route classes found, validating all routes");
+        }
+        return upToDate;
+    }
+
+    private static Set<String> readRouteIndex(ServletContext servletContext) {
+        ClassLoader classLoader = servletContext.getClassLoader();
+        if (classLoader == null) {
+            classLoader = RouteRegistryInitializer.class.getClassLoader();
+        }
+        String tokenResource = VAADIN_SERVLET_RESOURCES + TOKEN_FILE;
+        try {
+            // Only accept a build info of the application itself, same as
+            // DeploymentConfigurationFactory does
+            List<URL> resources = Collections
+                    .list(classLoader.getResources(tokenResource));
+            URL resource = resources.stream().filter(
+                    url -> !url.getPath().endsWith("jar!/" + tokenResource))
+                    .findFirst()
+                    .orElse(resources.size() == 1 ? resources.get(0) : null);
+            if (resource == null) {
+                return Collections.emptySet();
+            }
+            try (InputStream stream = resource.openStream()) {
+                JsonObject buildInfo = JsonUtil.parse(
+                        IOUtils.toString(stream, StandardCharsets.UTF_8));
+                if (!buildInfo.hasKey(ROUTE_INDEX_TOKEN)) {
+                    return Collections.emptySet();
+                }
+                JsonArray index = buildInfo.getArray(ROUTE_INDEX_TOKEN);
+                Set<String> routeIndex = new HashSet<>(index.length());
+                for (int i = 0; i < index.length(); i++) {
+                    routeIndex.add(index.getString(i));
+                }
+                return routeIndex;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (JsonException e) {
+            LoggerFactory.getLogger(RouteRegistryInitializer.class).debug(
+                    "Unable to read the route index from '{}'", tokenResource,
+                    e);
+            return Collections.emptySet();
+        }
+    }
+
     private void setAnnotatedRoutes(RouteConfiguration routeConfiguration,
             Set<Class<? extends Component>> routes) {
         routeConfiguration.getHandledRegistry().clean();
@@ -165,6 +165,26 @@ public class JsonConstants implements Serializable {
      */
     public static final String UIDL_KEY_EXECUTE = "execute";
 
+    /**
+     * Key for the inline expression of an invocation in
+     * {@link #UIDL_KEY_EXECUTE} when the expression is not given as a plain
+     * string.
+     */
+    public static final String EXECUTE_EXPRESSION = "e";
+
+    /**
+     * Key for the constant pool id of the expression of an invocation in
+     * {@link #UIDL_KEY_EXECUTE}.
+     */
+    public static final String EXECUTE_EXPRESSION_CONSTANT = "c";
+
+    /**
+     * Key marking that the last two parameters of an invocation in
+     * {@link #UIDL_KEY_EXECUTE} are the return channels for the successful and
+     * the failed result of the expression.
+     */
+    public static final String EXECUTE_RETURN_CHANNELS = "r";
+
     /**
      * Key used to hold the feature id when synchronizing node values.
      */
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.dom.DomEvent;
+import com.vaadin.flow.internal.Range;
+import com.vaadin.flow.internal.nodefeature.ElementListenerMap;
+
+import elemental.json.Json;
+import elemental.json.JsonObject;
+
+public class VirtualizedChildrenTest {
+
+    @Tag("div")
+    private static class TestContainer extends Component
+            implements HasComponents {
+    }
+
+    private TestContainer container = new TestContainer();
+    private VirtualizedChildren<Integer> virtualizedChildren = new VirtualizedChildren<>(
+            container, item -> new Text(String.valueOf(item)));
+
+    @Before
+    public void setUp() {
+        virtualizedChildren.setItems(IntStream.range(0, 10000).boxed()
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    public void setItems_noRequestedRange_noChildren() {
+        Assert.assertEquals(0, container.getElement().getChildCount());
+        Assert.assertEquals(10000, container.getElement()
+                .getProperty(VirtualizedChildren.ITEM_COUNT_PROPERTY, 0));
+    }
+
+    @Test
+    public void setRequestedRange_onlyChildrenInRangeCreated() {
+        virtualizedChildren.setRequestedRange(100, 30);
+
+        assertChildren(100, 130);
+        Assert.assertEquals(100, container.getElement()
+                .getProperty(VirtualizedChildren.FIRST_INDEX_PROPERTY, 0));
+    }
+
+    @Test
+    public void setRequestedRange_rangeMoved_overlappingChildrenKept() {
+        virtualizedChildren.setRequestedRange(100, 30);
+        Component kept = virtualizedChildren.getComponent(120).get();
+
+        virtualizedChildren.setRequestedRange(110, 30);
+        assertChildren(110, 140);
+        Assert.assertSame(kept, virtualizedChildren.getComponent(120).get());
+        Assert.assertFalse(virtualizedChildren.getComponent(105).isPresent());
+
+        virtualizedChildren.setRequestedRange(90, 30);
+        assertChildren(90, 120);
+
+        virtualizedChildren.setRequestedRange(5000, 30);
+        assertChildren(5000, 5030);
+    }
+
+    @Test
+    public void setRequestedRange_beyondItems_rangeLimited() {
+        virtualizedChildren.setRequestedRange(9990, 30);
+
+        assertChildren(9990, 10000);
+
+        virtualizedChildren.setItems(IntStream.range(0, 5).boxed()
+                .collect(Collectors.toList()));
+        assertChildren(5, 5);
+    }
+
+    @Test
+    public void viewportChangedEvent_rangeUpdated() {
+        JsonObject eventData = Json.createObject();
+        eventData.put("event.detail.start", 200);
+        eventData.put("event.detail.length", 20);
+
+        container.getElement().getNode()
+                .getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(container.getElement(),
+                        VirtualizedChildren.VIEWPORT_CHANGED_EVENT,
+                        eventData));
+
+        assertChildren(200, 220);
+    }
+
+    @Test
+    public void viewportChangedEvent_lengthOverMaximum_rangeLimited() {
+        JsonObject eventData = Json.createObject();
+        eventData.put("event.detail.start", 0);
+        eventData.put("event.detail.length", Integer.MAX_VALUE);
+
+        container.getElement().getNode()
+                .getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(container.getElement(),
+                        VirtualizedChildren.VIEWPORT_CHANGED_EVENT,
+                        eventData));
+
+        assertChildren(0, VirtualizedChildren.DEFAULT_MAXIMUM_RANGE_LENGTH);
+    }
+
+    @Test
+    public void viewportChangedEvent_negativeRange_noChildren() {
+        virtualizedChildren.setRequestedRange(100, 30);
+        JsonObject eventData = Json.createObject();
+        eventData.put("event.detail.start", -10);
+        eventData.put("event.detail.length", -20);
+
+        fireViewportChanged(eventData);
+
+        assertChildren(0, 0);
+    }
+
+    @Test
+    public void viewportChangedEvent_missingRange_rangeNotChanged() {
+        virtualizedChildren.setRequestedRange(100, 30);
+        JsonObject eventData = Json.createObject();
+        eventData.put("event.detail.start", Json.createNull());
+
+        fireViewportChanged(eventData);
+
+        assertChildren(100, 130);
+    }
+
+    @Test
+    public void setMaximumRangeLength_longerRangeLimited() {
+        virtualizedChildren.setMaximumRangeLength(10);
+
+        virtualizedChildren.setRequestedRange(100, 30);
+
+        assertChildren(100, 110);
+    }
+
+    private void fireViewportChanged(JsonObject eventData) {
+        container.getElement().getNode()
+                .getFeature(ElementListenerMap.class)
+                .fireEvent(new DomEvent(container.getElement(),
+                        VirtualizedChildren.VIEWPORT_CHANGED_EVENT,
+                        eventData));
+    }
+
+    private void assertChildren(int start, int end) {
+        Assert.assertEquals(Range.between(start, end),
+                virtualizedChildren.getMaterializedRange());
+        List<String> texts = container.getChildren()
+                .map(child -> ((Text) child).getText())
+                .collect(Collectors.toList());
+        Assert.assertEquals(IntStream.range(start, end)
+                .mapToObj(String::valueOf).collect(Collectors.toList()),
+                texts);
+    }
+}
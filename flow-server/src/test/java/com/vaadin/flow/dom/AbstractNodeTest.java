@@ -490,6 +490,30 @@ public abstract class AbstractNodeTest {
         assertChildren(parent, child2, child1);
     }
 
+    @Test
+    public void insertNewChildren_singleChange() {
+        Node<?> parent = createParentNode();
+        Element child1 = new Element("child1");
+        Element child2 = new Element("child2");
+        Element child3 = new Element("child3");
+        parent.appendChild(child1);
+
+        parent.getNode().clearChanges();
+
+        parent.insertChild(0, child2, child3);
+
+        assertChildren(parent, child2, child3, child1);
+        Assert.assertEquals(parent, child2.getParentNode());
+        Assert.assertEquals(parent, child3.getParentNode());
+
+        AtomicInteger changesCausedByInsert = new AtomicInteger(0);
+        parent.getNode().getFeature(ElementChildrenList.class)
+                .collectChanges(change -> {
+                    changesCausedByInsert.incrementAndGet();
+                });
+        Assert.assertEquals(1, changesCausedByInsert.get());
+    }
+
     @Test
     public void insertAttachedChild() {
         Node<?> parent = createParentNode();
@@ -11,7 +11,9 @@ import com.vaadin.flow.dom.NodeVisitor.ElementType;
 import com.vaadin.flow.dom.impl.BasicElementStateProvider;
 import com.vaadin.flow.internal.StateNode;
 import com.vaadin.flow.internal.nodefeature.ElementChildrenList;
+import com.vaadin.flow.internal.nodefeature.ElementClassList;
 import com.vaadin.flow.internal.nodefeature.ElementData;
+import com.vaadin.flow.internal.nodefeature.ElementStylePropertyMap;
 import com.vaadin.flow.internal.nodefeature.NodeFeature;
 import com.vaadin.flow.internal.nodefeature.NodeProperties;
 import com.vaadin.flow.internal.nodefeature.ShadowRootData;
@@ -134,6 +136,50 @@ public class BasicElementStateProviderTest {
                 isFeatureInitialized(element, ShadowRootData.class));
     }
 
+    @Test
+    public void readClassesAndStyles_noValues_featuresNotInitialized() {
+        Element element = ElementFactory.createDiv();
+
+        Assert.assertTrue(element.getClassList().isEmpty());
+        Assert.assertFalse(element.getClassList().contains("foo"));
+        Assert.assertFalse(element.getClassList().remove("foo"));
+        Assert.assertNull(element.getStyle().get("color"));
+        Assert.assertFalse(element.getStyle().has("color"));
+        element.getStyle().remove("color");
+        Assert.assertFalse(element.hasAttribute("class"));
+        Assert.assertFalse(element.hasAttribute("style"));
+        Assert.assertEquals(0, element.getAttributeNames().count());
+
+        Assert.assertFalse(
+                isFeatureInitialized(element, ElementClassList.class));
+        Assert.assertFalse(isFeatureInitialized(element,
+                ElementStylePropertyMap.class));
+    }
+
+    @Test
+    public void writeClassesAndStyles_featuresInitialized() {
+        Element element = ElementFactory.createDiv();
+        ClassList classList = element.getClassList();
+        Style style = element.getStyle();
+
+        classList.add("foo");
+        style.set("color", "red");
+
+        Assert.assertTrue(
+                isFeatureInitialized(element, ElementClassList.class));
+        Assert.assertTrue(isFeatureInitialized(element,
+                ElementStylePropertyMap.class));
+        Assert.assertEquals("foo", element.getAttribute("class"));
+        Assert.assertEquals("color:red", element.getAttribute("style"));
+        Assert.assertTrue(classList.contains("foo"));
+        Assert.assertEquals("red", style.get("color"));
+
+        classList.remove("foo");
+        style.remove("color");
+        Assert.assertTrue(element.getClassList().isEmpty());
+        Assert.assertEquals(0, element.getStyle().getNames().count());
+    }
+
     @Test
     public void setVisible() {
         Element element = ElementFactory.createDiv();
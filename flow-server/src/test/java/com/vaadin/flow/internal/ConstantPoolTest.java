@@ -74,4 +74,51 @@ public class ConstantPoolTest {
         Assert.assertNotEquals(constantId, otherId);
         Assert.assertTrue(constantPool.hasNewConstants());
     }
+
+    @Test
+    public void internedValues_sameJson_sameKeyInstance() {
+        ConstantPoolKey key = ConstantPoolKey
+                .intern(Json.parse("{\"click\":false}"));
+        ConstantPoolKey otherKey = ConstantPoolKey
+                .intern(Json.parse("{\"click\":false}"));
+
+        Assert.assertSame(key, otherKey);
+        Assert.assertEquals(
+                new ConstantPoolKey(Json.parse("{\"click\":false}")).getId(),
+                key.getId());
+        Assert.assertNotSame(key,
+                ConstantPoolKey.intern(Json.parse("{\"click\":true}")));
+    }
+
+    @Test
+    public void internedValues_limitReached_leastRecentlyUsedEvicted() {
+        ConstantPoolKey recent = ConstantPoolKey
+                .intern(Json.parse("{\"recent\":true}"));
+        ConstantPoolKey old = ConstantPoolKey
+                .intern(Json.parse("{\"old\":true}"));
+
+        for (int i = 0; i < ConstantPoolKey.INTERNED_KEYS_LIMIT; i++) {
+            // keep using the recent value while the cache fills up
+            Assert.assertSame(recent, ConstantPoolKey
+                    .intern(Json.parse("{\"recent\":true}")));
+            ConstantPoolKey.intern(Json.create(i));
+        }
+
+        Assert.assertSame(recent,
+                ConstantPoolKey.intern(Json.parse("{\"recent\":true}")));
+        Assert.assertNotSame(old,
+                ConstantPoolKey.intern(Json.parse("{\"old\":true}")));
+    }
+
+    @Test
+    public void getInterned_onlyInternedValuesFound() {
+        Assert.assertNull(ConstantPoolKey
+                .getInterned(Json.parse("{\"lookedUp\":true}")));
+
+        ConstantPoolKey key = ConstantPoolKey
+                .intern(Json.parse("{\"lookedUp\":true}"));
+
+        Assert.assertSame(key, ConstantPoolKey
+                .getInterned(Json.parse("{\"lookedUp\":true}")));
+    }
 }
@@ -16,8 +16,10 @@
 
 package com.vaadin.flow.internal;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -32,6 +34,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import org.apache.commons.lang3.SerializationUtils;
 import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
 import org.junit.Test;
@@ -130,6 +133,72 @@ public class StateNodeTest {
         node.getFeature(ElementPropertyMap.class);
     }
 
+    @Test
+    public void collectChanges_fewChanges_changeTrackerReused() {
+        StateNode node = createCollectedPropertyNode(2);
+        ElementPropertyMap properties = node
+                .getFeature(ElementPropertyMap.class);
+        HashMap<String, Serializable> marker = new HashMap<>();
+
+        Assert.assertNotSame(marker,
+                node.getChangeTracker(properties, () -> marker));
+    }
+
+    @Test
+    public void collectChanges_manyChanges_changeTrackerDiscarded() {
+        StateNode node = createCollectedPropertyNode(100);
+        ElementPropertyMap properties = node
+                .getFeature(ElementPropertyMap.class);
+        HashMap<String, Serializable> marker = new HashMap<>();
+
+        Assert.assertSame(marker,
+                node.getChangeTracker(properties, () -> marker));
+    }
+
+    @Test
+    public void serialize_pendingChanges_changeTrackerKept() {
+        StateNode node = new StateNode(ElementPropertyMap.class);
+        node.getFeature(ElementPropertyMap.class).setProperty("foo", "bar");
+
+        StateNode deserialized = SerializationUtils
+                .deserialize(SerializationUtils.serialize(node));
+        HashMap<String, Serializable> marker = new HashMap<>();
+
+        Assert.assertNotSame(marker, deserialized.getChangeTracker(
+                deserialized.getFeature(ElementPropertyMap.class),
+                () -> marker));
+    }
+
+    @Test
+    public void serialize_changesCleared_changeTrackerNotSerialized() {
+        StateNode node = new StateNode(ElementPropertyMap.class);
+        node.getFeature(ElementPropertyMap.class).setProperty("foo", "bar");
+        node.clearChanges();
+
+        StateNode deserialized = SerializationUtils
+                .deserialize(SerializationUtils.serialize(node));
+        HashMap<String, Serializable> marker = new HashMap<>();
+
+        Assert.assertSame(marker, deserialized.getChangeTracker(
+                deserialized.getFeature(ElementPropertyMap.class),
+                () -> marker));
+    }
+
+    private StateNode createCollectedPropertyNode(int propertyCount) {
+        StateNode node = new StateNode(ElementPropertyMap.class);
+        setParent(node, createStateTree().getRootNode());
+        node.collectChanges(change -> {
+        });
+        ElementPropertyMap properties = node
+                .getFeature(ElementPropertyMap.class);
+        for (int i = 0; i < propertyCount; i++) {
+            properties.setProperty("property" + i, "value");
+        }
+        node.collectChanges(change -> {
+        });
+        return node;
+    }
+
     @Test
     public void attachDetachChangeCollection() {
         StateNode node = createEmptyNode();
@@ -89,6 +89,16 @@ public class ElementListenersTest
         Assert.assertFalse(ns.contains("foo"));
     }
 
+    @Test
+    public void sameListenerSettings_differentNodes_constantPoolKeyShared() {
+        ElementListenerMap other = createFeature();
+
+        ns.add("click", noOp).addEventData("event.button");
+        other.add("click", noOp).addEventData("event.button");
+
+        Assert.assertSame(ns.get("click"), other.get("click"));
+    }
+
     @Test
     public void addAndRemoveEventData() {
         ns.add("eventType", noOp).addEventData("data1").addEventData("data2");
@@ -118,6 +118,47 @@ public class NodeMapTest
         Assert.assertEquals(KEY, removeChange.getKey());
     }
 
+    @Test
+    public void collectChanges_severalRoundTrips_changeTrackerReused() {
+        nodeMap.put(KEY, "value");
+        Map<String, Serializable> tracker = nodeMap.getNode()
+                .getChangeTracker(nodeMap, HashMap::new);
+        collectChanges(nodeMap);
+
+        nodeMap.put(KEY, "value2");
+        List<NodeChange> changes = collectChanges(nodeMap);
+
+        Assert.assertEquals(1, changes.size());
+        Assert.assertEquals("value2",
+                ((MapPutChange) changes.get(0)).getValue());
+        Assert.assertSame(tracker, nodeMap.getNode()
+                .getChangeTracker(nodeMap, HashMap::new));
+    }
+
+    @Test
+    public void collectChanges_manyKeys_changesCoalesced() {
+        for (int i = 0; i < 40; i++) {
+            nodeMap.put("key" + i, "first");
+        }
+        collectChanges(nodeMap);
+
+        for (int i = 0; i < 40; i++) {
+            nodeMap.put("key" + i, "second");
+            nodeMap.put("key" + i, "third");
+        }
+        nodeMap.remove("key0");
+        nodeMap.remove("key39");
+
+        List<NodeChange> changes = collectChanges(nodeMap);
+        Assert.assertEquals(40, changes.size());
+        Assert.assertEquals(2, changes.stream()
+                .filter(MapRemoveChange.class::isInstance).count());
+        Assert.assertTrue(changes.stream()
+                .filter(MapPutChange.class::isInstance)
+                .allMatch(change -> "third"
+                        .equals(((MapPutChange) change).getValue())));
+    }
+
     @Test
     public void testNoChangeEvent() {
         nodeMap.put(KEY, "value", false);
@@ -81,6 +81,32 @@ public class StateNodeNodeListTest
         Assert.assertEquals(0, removeChange.getIndex());
     }
 
+    @Test
+    public void addAll_atIndex_singleChangeAndChildrenAttached() {
+        StateNode value1 = StateNodeTest.createEmptyNode("value1");
+        StateNode value2 = StateNodeTest.createEmptyNode("value2");
+        StateNode value3 = StateNodeTest.createEmptyNode("value3");
+
+        nodeList.add(value1);
+        collectChanges(nodeList);
+
+        nodeList.addAll(0, Arrays.asList(value2, value3));
+
+        Assert.assertEquals(3, nodeList.size());
+        Assert.assertSame(value2, nodeList.get(0));
+        Assert.assertSame(value3, nodeList.get(1));
+        Assert.assertSame(value1, nodeList.get(2));
+        Assert.assertSame(nodeList.getNode(), value2.getParent());
+        Assert.assertSame(nodeList.getNode(), value3.getParent());
+
+        List<NodeChange> changes = collectChanges(nodeList);
+        Assert.assertEquals(1, changes.size());
+        ListAddChange<?> change = (ListAddChange<?>) changes.get(0);
+        Assert.assertEquals(0, change.getIndex());
+        Assert.assertEquals(Arrays.asList(value2, value3),
+                change.getNewItems());
+    }
+
     @Test
     public void testChangesAfterReset() {
         StateNode value1 = StateNodeTest.createEmptyNode("value1");
@@ -6,6 +6,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -1407,6 +1408,37 @@ public class BootstrapHandlerTest {
         Assert.assertFalse(bundle.hasAttr("defer"));
     }
 
+    @Test
+    public void getBootstrapPage_productionMode_statsReadOnlyOnce()
+            throws ServiceException {
+        mocks.setProductionMode(true);
+        initUI(testUI);
+
+        ClassLoader classLoader = Mockito.mock(ClassLoader.class);
+        service.setClassLoader(classLoader);
+
+        String statsJson = "{\n" + " \"errors\": [],\n"
+                + " \"assetsByChunkName\": {\n"
+                + "  \"bundle\": \"build/vaadin-bundle-1111.cache.js\"\n"
+                + " }" + "}";
+        Mockito.when(classLoader.getResourceAsStream(Mockito.anyString()))
+                .thenAnswer(invocation -> new ByteArrayInputStream(
+                        statsJson.getBytes()));
+
+        BootstrapContext bootstrapContext = new BootstrapContext(request, null,
+                session, testUI, this::contextRootRelativePath);
+        Document first = pageBuilder.getBootstrapPage(bootstrapContext);
+        Document second = pageBuilder.getBootstrapPage(bootstrapContext);
+
+        Mockito.verify(classLoader, Mockito.times(1))
+                .getResourceAsStream(Mockito.contains("stats.json"));
+        for (Document page : Arrays.asList(first, second)) {
+            Assert.assertTrue(page.head().getElementsByTag("script").stream()
+                    .anyMatch(el -> el.attr("src")
+                            .equals("./VAADIN/build/vaadin-bundle-1111.cache.js")));
+        }
+    }
+
     private void assertStringEquals(String message, String expected,
             String actual) {
         Assert.assertThat(message,
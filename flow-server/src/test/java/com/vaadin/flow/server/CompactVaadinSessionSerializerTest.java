@@ -0,0 +1,117 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.internal.CurrentInstance;
+
+public class CompactVaadinSessionSerializerTest {
+
+    private VaadinSession session;
+
+    @Before
+    public void setUp() {
+        session = createSession(new CompactVaadinSessionSerializer());
+    }
+
+    @Test
+    public void serializeSession_compactSerializer_sessionRestored()
+            throws Exception {
+        VaadinSession deserialized = (VaadinSession) deserialize(
+                serialize(session));
+
+        Assert.assertNotSame(session, deserialized);
+        Assert.assertEquals("bar", deserialized.getAttribute("foo"));
+    }
+
+    @Test
+    public void serializeSession_unchangedSession_serializedFormNotKept()
+            throws Exception {
+        Object serializedForm = session.writeReplace();
+
+        Assert.assertTrue(serializedForm instanceof SerializedVaadinSession);
+        Assert.assertNotSame(serializedForm, session.writeReplace());
+    }
+
+    @Test
+    public void serializeSession_serializedFormReused_unchangedSessionNotWrittenAgain()
+            throws Exception {
+        session = createSession(new CompactVaadinSessionSerializer() {
+            @Override
+            public boolean isSerializedFormReused() {
+                return true;
+            }
+        });
+        Object serializedForm = session.writeReplace();
+
+        Assert.assertTrue(serializedForm instanceof SerializedVaadinSession);
+        Assert.assertSame(serializedForm, session.writeReplace());
+
+        session.lock();
+        session.setAttribute("foo", "baz");
+        session.unlock();
+
+        Object updatedForm = session.writeReplace();
+        Assert.assertNotSame(serializedForm, updatedForm);
+        Assert.assertEquals("baz",
+                ((VaadinSession) deserialize(serialize(session)))
+                        .getAttribute("foo"));
+    }
+
+    private static VaadinSession createSession(
+            VaadinSessionSerializer serializer) {
+        MockVaadinServletService service = new MockVaadinServletService() {
+            @Override
+            protected VaadinSessionSerializer createSessionSerializer() {
+                return serializer;
+            }
+        };
+        service.init();
+
+        VaadinSession session = new VaadinSession(service);
+        session.lock();
+        session.setAttribute("foo", "bar");
+        session.unlock();
+        return session;
+    }
+
+    private static byte[] serialize(Object object) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Object deserialize(byte[] data)
+            throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new ByteArrayInputStream(data))) {
+            return in.readObject();
+        } finally {
+            CurrentInstance.clearAll();
+        }
+    }
+}
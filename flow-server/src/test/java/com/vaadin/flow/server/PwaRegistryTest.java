@@ -50,4 +50,30 @@ public class PwaRegistryTest {
         // the default image has 47 on the position 36
         Assert.assertEquals(26, stream.toByteArray()[36]);
     }
+
+    @Test
+    public void pwaIconIsRenderedOnFirstWrite_hrefDoesNotChange()
+            throws IOException {
+        ServletContext context = Mockito.mock(ServletContext.class);
+        PwaRegistry registry = new PwaRegistry(
+                PwaRegistryTest.class.getAnnotation(PWA.class), context);
+        PwaIcon pwaIcon = registry.getHeaderIcons().stream()
+                .filter(icon -> !icon.shouldBeCached()).findFirst().get();
+        String href = pwaIcon.getHref();
+        String cacheFormat = pwaIcon.getCacheFormat();
+
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        pwaIcon.write(stream);
+        byte[] image = stream.toByteArray();
+
+        // PNG signature
+        Assert.assertEquals((byte) 0x89, image[0]);
+        Assert.assertEquals('P', image[1]);
+        Assert.assertEquals(href, pwaIcon.getHref());
+        Assert.assertEquals(cacheFormat, pwaIcon.getCacheFormat());
+
+        stream.reset();
+        pwaIcon.write(stream);
+        Assert.assertArrayEquals(image, stream.toByteArray());
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.component.Component;
+import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.internal.CurrentInstance;
+import com.vaadin.flow.server.SessionFootprint.UIFootprint;
+import com.vaadin.tests.util.AlwaysLockedVaadinSession;
+import com.vaadin.tests.util.MockUI;
+
+public class SessionFootprintTest {
+
+    @Tag("div")
+    private static class TestComponent extends Component {
+    }
+
+    private VaadinSession session;
+    private UI ui;
+
+    @Before
+    public void setUp() {
+        VaadinService service = Mockito.mock(VaadinService.class);
+        Mockito.when(service.getMainDivId(Mockito.any(), Mockito.any()))
+                .thenReturn("app");
+        session = new AlwaysLockedVaadinSession(service);
+        ui = new MockUI(session);
+        ui.doInit(Mockito.mock(VaadinRequest.class), 1);
+        session.addUI(ui);
+    }
+
+    @After
+    public void tearDown() {
+        CurrentInstance.clearAll();
+    }
+
+    @Test
+    public void measure_componentsAndListenersCounted() {
+        SessionFootprint empty = SessionFootprint.measure(session);
+
+        TestComponent first = new TestComponent();
+        TestComponent second = new TestComponent();
+        ui.add(first, second);
+        first.getElement().addEventListener("click", event -> {
+        });
+        first.getElement().addEventListener("focus", event -> {
+        });
+        second.getElement().addAttachListener(event -> {
+        });
+
+        SessionFootprint footprint = SessionFootprint.measure(session);
+
+        Assert.assertEquals(1, footprint.getUIs().size());
+        UIFootprint uiFootprint = footprint.getUIs().get(0);
+        Assert.assertEquals(1, uiFootprint.getUIId());
+        Assert.assertNull(uiFootprint.getRouteTarget());
+        Assert.assertEquals(empty.getNodeCount() + 2,
+                footprint.getNodeCount());
+        Assert.assertEquals(Integer.valueOf(2), footprint.getComponentCounts()
+                .get(TestComponent.class.getName()));
+        Assert.assertTrue(uiFootprint.getListenerCount()
+                - empty.getUIs().get(0).getListenerCount() >= 3);
+        Assert.assertTrue(
+                footprint.getEstimatedSize() > empty.getEstimatedSize());
+    }
+
+    @Test
+    public void combine_uisOfAllFootprintsIncluded() {
+        ui.add(new TestComponent());
+        SessionFootprint footprint = SessionFootprint.measure(session);
+
+        SessionFootprint combined = SessionFootprint
+                .combine(Arrays.asList(footprint, footprint));
+
+        Assert.assertEquals(2, combined.getUIs().size());
+        Assert.assertEquals(footprint.getEstimatedSize() * 2,
+                combined.getEstimatedSize());
+        Assert.assertEquals(Integer.valueOf(2), combined.getComponentCounts()
+                .get(TestComponent.class.getName()));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.vaadin.flow.component.UI;
+
+public class UIExpirationWheelTest {
+
+    private static final long TICK = 60000;
+    private static final long TIMEOUT = 3 * TICK;
+
+    private List<UI> expired = new ArrayList<>();
+    private UIExpirationWheel wheel = new UIExpirationWheel(TICK, TIMEOUT,
+            expired::add);
+    private UI ui = new UI();
+    private long start;
+
+    @Before
+    public void setUp() {
+        start = System.currentTimeMillis();
+        ui.getInternals().setLastHeartbeatTimestamp(start);
+        wheel.schedule(ui);
+        // The wheel is advanced manually by the tests
+        wheel.stop();
+    }
+
+    @After
+    public void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    public void advance_deadlineNotReached_notExpired() {
+        wheel.advance(start + TIMEOUT - TICK);
+
+        Assert.assertTrue(expired.isEmpty());
+    }
+
+    @Test
+    public void advance_deadlineReached_expiredOnce() {
+        wheel.advance(start + TIMEOUT + TICK);
+        wheel.advance(start + TIMEOUT + 2 * TICK);
+        wheel.advance(
+                start + TIMEOUT + (UIExpirationWheel.WHEEL_SIZE + 2) * TICK);
+
+        Assert.assertEquals(1, expired.size());
+        Assert.assertSame(ui, expired.get(0));
+    }
+
+    @Test
+    public void advance_heartbeatReceived_deadlineMoved() {
+        wheel.advance(start + TICK);
+        ui.getInternals().setLastHeartbeatTimestamp(start + 2 * TICK);
+
+        wheel.advance(start + TIMEOUT + TICK);
+        Assert.assertTrue(expired.isEmpty());
+
+        wheel.advance(start + TIMEOUT + 3 * TICK);
+        Assert.assertEquals(1, expired.size());
+    }
+
+    @Test
+    public void advance_deadlineInCurrentTick_expiredWhenTickHasElapsed() {
+        long tickStart = (start / TICK + 3) * TICK;
+        // Deadline at the end of the tick which starts the deadline check
+        ui.getInternals()
+                .setLastHeartbeatTimestamp(tickStart + TICK - 1 - TIMEOUT);
+
+        wheel.advance(tickStart);
+        Assert.assertTrue(expired.isEmpty());
+
+        wheel.advance(tickStart + TICK);
+        Assert.assertEquals(1, expired.size());
+    }
+
+    @Test
+    public void advance_heartbeatMovesDeadlineIntoCurrentTick_expiredWhenTickHasElapsed() {
+        long tickStart = (start / TICK + 4) * TICK;
+        ui.getInternals()
+                .setLastHeartbeatTimestamp(tickStart + TICK / 2 - TIMEOUT);
+
+        // The original slot is processed, the new deadline is in this tick
+        wheel.advance(tickStart + TICK / 4);
+        Assert.assertTrue(expired.isEmpty());
+
+        wheel.advance(tickStart + TICK);
+        Assert.assertEquals(1, expired.size());
+    }
+
+    @Test
+    public void schedule_deadlinePassed_expiredWhenCurrentTickHasElapsed() {
+        UI inactive = new UI();
+        inactive.getInternals().setLastHeartbeatTimestamp(start - 2 * TIMEOUT);
+        wheel.schedule(inactive);
+        wheel.stop();
+
+        wheel.advance(start + TICK);
+
+        Assert.assertEquals(Collections.singletonList(inactive), expired);
+    }
+
+    @Test
+    public void advance_uiClosing_notExpired() {
+        ui.close();
+
+        wheel.advance(start + TIMEOUT + TICK);
+
+        Assert.assertTrue(expired.isEmpty());
+    }
+
+    @Test
+    public void schedule_severalWheels_timerThreadShared() {
+        List<UIExpirationWheel> wheels = new ArrayList<>();
+        try {
+            for (int i = 0; i < 3; i++) {
+                UIExpirationWheel other = new UIExpirationWheel(TICK, TIMEOUT,
+                        expired::add);
+                wheels.add(other);
+                other.schedule(ui);
+            }
+
+            Assert.assertEquals(1, Thread.getAllStackTraces().keySet()
+                    .stream()
+                    .filter(thread -> "vaadin-ui-expiration"
+                            .equals(thread.getName()))
+                    .count());
+        } finally {
+            wheels.forEach(UIExpirationWheel::stop);
+        }
+    }
+}
@@ -31,15 +31,20 @@ import net.jcip.annotations.NotThreadSafe;
 import org.easymock.EasyMock;
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.Tag;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.router.RouteConfiguration;
 import com.vaadin.flow.router.RouteData;
 import com.vaadin.flow.router.Router;
+import com.vaadin.flow.server.HandlerHelper.RequestType;
 import com.vaadin.flow.server.communication.StreamRequestHandler;
+import com.vaadin.flow.shared.ApplicationConstants;
 import com.vaadin.tests.util.MockDeploymentConfiguration;
+import com.vaadin.tests.util.MockUI;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -324,6 +329,121 @@ public class VaadinServiceTest {
         Assert.assertSame(applicationFilter, filters.get(0));
     }
 
+    @Test
+    public void requestHandlers_handlerRestrictedToRequestType_onlyInvokedForThatType() {
+        RequestHandler uidlHandler = new RequestHandler() {
+            @Override
+            public boolean handleRequest(VaadinSession session,
+                    VaadinRequest request, VaadinResponse response) {
+                return false;
+            }
+
+            @Override
+            public RequestType getHandledRequestType() {
+                return RequestType.UIDL;
+            }
+        };
+        RequestHandler anyHandler = (session, request, response) -> false;
+
+        MockVaadinServletService service = new MockVaadinServletService();
+        service.init(new MockInstantiator(evt -> {
+            evt.addRequestHandler(anyHandler);
+            evt.addRequestHandler(uidlHandler);
+        }));
+
+        List<RequestHandler> uidl = new ArrayList<>();
+        service.getRequestHandlers(createRequest(RequestType.UIDL))
+                .forEach(uidl::add);
+        Assert.assertEquals(uidlHandler, uidl.get(0));
+        Assert.assertEquals(anyHandler, uidl.get(1));
+
+        List<RequestHandler> heartbeat = new ArrayList<>();
+        service.getRequestHandlers(createRequest(RequestType.HEARTBEAT))
+                .forEach(heartbeat::add);
+        Assert.assertFalse(heartbeat.contains(uidlHandler));
+        Assert.assertEquals(anyHandler, heartbeat.get(0));
+
+        List<RequestHandler> untyped = new ArrayList<>();
+        service.getRequestHandlers(createRequest(null)).forEach(untyped::add);
+        Assert.assertFalse(untyped.contains(uidlHandler));
+        Assert.assertTrue(untyped.contains(anyHandler));
+        Assert.assertTrue(untyped.stream()
+                .allMatch(handler -> handler.getHandledRequestType() == null));
+    }
+
+    @Test
+    public void closeInactiveUI_heartbeatTimedOut_uiClosedAndCounted() {
+        MockVaadinServletService service = new MockVaadinServletService();
+        service.init();
+        try {
+            UI ui = createUIInSession(service);
+            // No heartbeat since the epoch
+            ui.getInternals().setLastHeartbeatTimestamp(0);
+            VaadinSession session = ui.getSession();
+
+            service.closeInactiveUI(ui);
+
+            Assert.assertTrue(ui.isClosing());
+            Assert.assertTrue(session.getUIs().isEmpty());
+            Assert.assertEquals(1, service.getSweptUICount());
+            Assert.assertTrue(service.getSweptNodeCount() > 0);
+        } finally {
+            service.destroy();
+            CurrentInstance.clearAll();
+        }
+    }
+
+    @Test
+    public void closeInactiveUI_heartbeatReceived_uiKeptAndNotCounted() {
+        MockVaadinServletService service = new MockVaadinServletService();
+        service.init();
+        try {
+            UI ui = createUIInSession(service);
+            ui.getInternals()
+                    .setLastHeartbeatTimestamp(System.currentTimeMillis());
+
+            service.closeInactiveUI(ui);
+
+            Assert.assertFalse(ui.isClosing());
+            Assert.assertEquals(1, ui.getSession().getUIs().size());
+            Assert.assertEquals(0, service.getSweptUICount());
+            Assert.assertEquals(0, service.getSweptNodeCount());
+        } finally {
+            service.destroy();
+            CurrentInstance.clearAll();
+        }
+    }
+
+    private static UI createUIInSession(VaadinService service) {
+        WrappedSession wrappedSession = Mockito.mock(WrappedSession.class);
+        Mockito.when(wrappedSession.getId()).thenReturn("session");
+        MockVaadinSession session = new MockVaadinSession(service) {
+            @Override
+            public WrappedSession getSession() {
+                return wrappedSession;
+            }
+        };
+        session.lock();
+        try {
+            UI ui = new MockUI(session);
+            ui.doInit(Mockito.mock(VaadinRequest.class), 1);
+            session.addUI(ui);
+            return ui;
+        } finally {
+            session.unlock();
+        }
+    }
+
+    private static VaadinRequest createRequest(RequestType type) {
+        VaadinRequest request = EasyMock.createNiceMock(VaadinRequest.class);
+        EasyMock.expect(request
+                .getParameter(ApplicationConstants.REQUEST_TYPE_PARAMETER))
+                .andReturn(type == null ? null : type.getIdentifier())
+                .anyTimes();
+        EasyMock.replay(request);
+        return request;
+    }
+
     private static VaadinService createService() {
         ServletConfig servletConfig = new MockServletConfig();
         VaadinServlet servlet = new VaadinServlet();
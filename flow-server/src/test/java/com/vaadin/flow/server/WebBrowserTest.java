@@ -17,6 +17,9 @@ package com.vaadin.flow.server;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.vaadin.flow.shared.BrowserDetails;
 
 public class WebBrowserTest {
 
@@ -56,4 +59,48 @@ public class WebBrowserTest {
     public void isChromeOS_noDetails_returnsFalse() {
         Assert.assertFalse(browser.isChromeOS());
     }
+
+    @Test
+    public void updateRequestDetails_sameUserAgent_parsedDetailsShared() {
+        String agent = "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 "
+                + "(KHTML, like Gecko) Chrome/84.0.4147.105 Safari/537.36";
+        VaadinRequest request = Mockito.mock(VaadinRequest.class);
+        Mockito.when(request.getHeader("User-Agent"))
+                .thenReturn(new String(agent));
+        browser.updateRequestDetails(request);
+
+        Assert.assertTrue(browser.isChrome());
+        Assert.assertTrue(browser.isLinux());
+        Assert.assertSame(WebBrowser.getBrowserDetails(agent),
+                WebBrowser.getBrowserDetails(new String(agent)));
+    }
+
+    @Test
+    public void getBrowserDetails_cacheFull_leastRecentlyUsedEvicted() {
+        String recent = "Mozilla/5.0 (X11; Linux) Recent/1.0";
+        String old = "Mozilla/5.0 (X11; Linux) Old/1.0";
+        BrowserDetails recentDetails = WebBrowser.getBrowserDetails(recent);
+        BrowserDetails oldDetails = WebBrowser.getBrowserDetails(old);
+
+        for (int i = 0; i < WebBrowser.BROWSER_DETAILS_CACHE_SIZE; i++) {
+            // keep using the recent user agent while the cache fills up
+            Assert.assertSame(recentDetails,
+                    WebBrowser.getBrowserDetails(recent));
+            WebBrowser.getBrowserDetails("Mozilla/5.0 (X11; Linux) Foo/" + i);
+        }
+
+        Assert.assertSame(recentDetails, WebBrowser.getBrowserDetails(recent));
+        Assert.assertNotSame(oldDetails, WebBrowser.getBrowserDetails(old));
+    }
+
+    @Test
+    public void getBrowserDetails_longUserAgent_notShared() {
+        StringBuilder agent = new StringBuilder("Mozilla/5.0 (X11; Linux)");
+        while (agent.length() <= WebBrowser.MAX_CACHED_USER_AGENT_LENGTH) {
+            agent.append(" Foo/1.0");
+        }
+
+        Assert.assertNotSame(WebBrowser.getBrowserDetails(agent.toString()),
+                WebBrowser.getBrowserDetails(agent.toString()));
+    }
 }
@@ -614,6 +614,40 @@ public class IndexHtmlRequestHandlerTest {
         assertEquals(1, bodyInlineElements.size());
     }
 
+    @Test
+    public void serveIndexHtml_productionMode_perRequestPartsWrittenToPrecompiledPage()
+            throws IOException {
+        deploymentConfiguration.setProductionMode(true);
+
+        Mockito.when(session.getCsrfToken()).thenReturn("foo");
+        indexHtmlRequestHandler.synchronizedHandleRequest(session,
+                createVaadinRequest("/"), response);
+        String first = responseOutput.toString(StandardCharsets.UTF_8.name());
+
+        responseOutput.reset();
+        Mockito.when(session.getCsrfToken()).thenReturn("bar");
+        indexHtmlRequestHandler.synchronizedHandleRequest(session,
+                createVaadinRequest("/foo/bar"), response);
+        String second = responseOutput
+                .toString(StandardCharsets.UTF_8.name());
+
+        Assert.assertTrue(first.contains("<base href=\".\""));
+        Assert.assertTrue(first.contains(
+                "window.Vaadin = {TypeScript: {\"csrfToken\":\"foo\""));
+        Assert.assertTrue(first.contains(".v-system-error"));
+
+        Assert.assertTrue(second.contains("<base href=\"./..\""));
+        Assert.assertTrue(second.contains(
+                "window.Vaadin = {TypeScript: {\"csrfToken\":\"bar\""));
+        Assert.assertTrue(second.contains(".v-system-error"));
+
+        Document document = Jsoup.parse(second);
+        Assert.assertEquals(1, document.head().getElementsByTag("base").size());
+        Assert.assertEquals("",
+                document.head().getElementsByTag("script").get(0)
+                        .attr("initial"));
+    }
+
     @After
     public void tearDown() throws Exception {
         session.unlock();
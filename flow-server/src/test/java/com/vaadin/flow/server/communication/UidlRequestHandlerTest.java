@@ -17,26 +17,34 @@
 
 package com.vaadin.flow.server.communication;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.Properties;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
+import com.vaadin.flow.component.PushConfiguration;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.internal.JavaScriptBootstrapUI;
 import com.vaadin.flow.server.DefaultDeploymentConfiguration;
 import com.vaadin.flow.server.HandlerHelper.RequestType;
 import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinResponse;
 import com.vaadin.flow.server.VaadinService;
+import com.vaadin.flow.server.VaadinServletRequest;
 import com.vaadin.flow.server.VaadinServletService;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.shared.ApplicationConstants;
+import com.vaadin.flow.shared.communication.PushMode;
 
+import elemental.json.Json;
 import elemental.json.JsonObject;
 import elemental.json.impl.JsonUtil;
 
@@ -112,6 +120,86 @@ public class UidlRequestHandlerTest {
                 responseContent);
     }
 
+    @Test
+    public void handleRequest_bodyReadBeforeLockAndResponseWrittenAfterUnlock()
+            throws IOException {
+        VaadinServletRequest servletRequest = mockServletRequest();
+        VaadinService service = mock(VaadinService.class);
+        VaadinSession session = mock(VaadinSession.class);
+        when(session.getService()).thenReturn(service);
+        when(service.findUI(servletRequest)).thenReturn(null);
+
+        boolean result = handler.handleRequest(session, servletRequest,
+                response);
+        Assert.assertTrue("Result should be true", result);
+
+        InOrder inOrder = Mockito.inOrder(servletRequest, session,
+                outputStream);
+        inOrder.verify(servletRequest).getReader();
+        inOrder.verify(session).lock();
+        inOrder.verify(session).unlock();
+        inOrder.verify(outputStream).write(Mockito.any(byte[].class));
+
+        Assert.assertEquals("Invalid response",
+                "for(;;);[{\"meta\":{\"sessionExpired\":true}}]",
+                CommunicationUtil.getStringWhenWriteString(outputStream));
+    }
+
+    @Test
+    public void handleRequest_pushEnabled_responseWrittenBeforeUnlock()
+            throws IOException {
+        VaadinServletRequest servletRequest = mockServletRequest();
+        VaadinService service = mock(VaadinService.class);
+        VaadinSession session = mock(VaadinSession.class);
+        when(session.getService()).thenReturn(service);
+        UI ui = mock(UI.class);
+        PushConfiguration pushConfiguration = mock(PushConfiguration.class);
+        when(pushConfiguration.getPushMode()).thenReturn(PushMode.AUTOMATIC);
+        when(ui.getPushConfiguration()).thenReturn(pushConfiguration);
+        when(service.findUI(servletRequest)).thenReturn(ui);
+
+        ServerRpcHandler rpcHandler = mock(ServerRpcHandler.class);
+        UidlRequestHandler handler = spy(new UidlRequestHandler());
+        doReturn(rpcHandler).when(handler).createRpcHandler();
+        doReturn(Json.createObject()).when(handler).createUidl(ui, false);
+
+        handler.handleRequest(session, servletRequest, response);
+
+        InOrder inOrder = Mockito.inOrder(session, outputStream);
+        inOrder.verify(session).lock();
+        inOrder.verify(outputStream).write(Mockito.any(byte[].class));
+        inOrder.verify(session).unlock();
+    }
+
+    @Test
+    public void handleRequest_notServletRequest_responseWrittenBeforeUnlock()
+            throws IOException {
+        VaadinService service = mock(VaadinService.class);
+        VaadinSession session = mock(VaadinSession.class);
+        when(session.getService()).thenReturn(service);
+        when(service.findUI(request)).thenReturn(null);
+        when(request
+                .getParameter(ApplicationConstants.REQUEST_TYPE_PARAMETER))
+                .thenReturn(RequestType.UIDL.getIdentifier());
+
+        handler.handleRequest(session, request, response);
+
+        InOrder inOrder = Mockito.inOrder(session, outputStream);
+        inOrder.verify(session).lock();
+        inOrder.verify(outputStream).write(Mockito.any(byte[].class));
+        inOrder.verify(session).unlock();
+    }
+
+    private VaadinServletRequest mockServletRequest() throws IOException {
+        VaadinServletRequest servletRequest = mock(VaadinServletRequest.class);
+        when(servletRequest
+                .getParameter(ApplicationConstants.REQUEST_TYPE_PARAMETER))
+                .thenReturn(RequestType.UIDL.getIdentifier());
+        when(servletRequest.getReader())
+                .thenReturn(new BufferedReader(new StringReader("{}")));
+        return servletRequest;
+    }
+
     @Test
     public void should_not_modifyUidl_when_MPR_nonJavaScriptBootstrapUI() throws Exception {
         JavaScriptBootstrapUI ui = null;
@@ -38,15 +38,20 @@ import com.vaadin.flow.component.internal.PendingJavaScriptInvocation;
 import com.vaadin.flow.component.internal.UIInternals.JavaScriptInvocation;
 import com.vaadin.flow.dom.Element;
 import com.vaadin.flow.dom.ElementFactory;
+import com.vaadin.flow.internal.ConstantPool;
+import com.vaadin.flow.internal.CurrentInstance;
 import com.vaadin.flow.internal.JsonUtils;
 import com.vaadin.flow.router.ParentLayout;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.router.RouteConfiguration;
 import com.vaadin.flow.router.RouterLayout;
 import com.vaadin.flow.server.MockServletServiceSessionSetup;
+import com.vaadin.flow.server.RequestPhaseTimings;
+import com.vaadin.flow.server.VaadinRequest;
 import com.vaadin.flow.server.VaadinServletRequest;
 import com.vaadin.flow.server.VaadinSession;
 import com.vaadin.flow.shared.ApplicationConstants;
+import com.vaadin.flow.shared.JsonConstants;
 import com.vaadin.flow.shared.ui.Dependency;
 import com.vaadin.flow.shared.ui.LoadMode;
 
@@ -180,6 +185,95 @@ public class UidlWriterTest {
         assertTrue(JsonUtils.jsonEquals(expectedJson, json));
     }
 
+    @Test
+    public void encodeExecuteJavaScript_repeatedLongExpression_sentThroughConstantPool() {
+        Element element = ElementFactory.createDiv();
+        String expression = "console.log('Expression sent only once', $0)";
+
+        List<PendingJavaScriptInvocation> executeJavaScriptList = Stream
+                .of("foo", "bar", "baz")
+                .map(value -> new PendingJavaScriptInvocation(
+                        element.getNode(),
+                        new JavaScriptInvocation(expression, value)))
+                .collect(Collectors.toList());
+        ConstantPool constantPool = new ConstantPool();
+
+        JsonArray json = UidlWriter.encodeExecuteJavaScriptList(
+                executeJavaScriptList, constantPool);
+
+        // Sent inline when seen for the first time
+        assertEquals(expression, json.getArray(0).getString(1));
+        String id = json.getArray(1).getObject(1)
+                .getString(JsonConstants.EXECUTE_EXPRESSION_CONSTANT);
+        assertEquals(id, json.getArray(2).getObject(1)
+                .getString(JsonConstants.EXECUTE_EXPRESSION_CONSTANT));
+        assertEquals("baz", json.getArray(2).getString(0));
+
+        JsonObject constants = constantPool.dumpConstants();
+        assertEquals(1, constants.keys().length);
+        assertEquals(expression, constants.getString(id));
+    }
+
+    @Test
+    public void encodeExecuteJavaScript_longExpressionUsedOnce_notAddedToConstantPool() {
+        Element element = ElementFactory.createDiv();
+        String expression = "console.log('Expression used only once', $0)";
+        ConstantPool constantPool = new ConstantPool();
+
+        JsonArray json = UidlWriter.encodeExecuteJavaScriptList(
+                Collections.singletonList(new PendingJavaScriptInvocation(
+                        element.getNode(),
+                        new JavaScriptInvocation(expression, "foo"))),
+                constantPool);
+
+        assertEquals(expression, json.getArray(0).getString(1));
+        assertFalse(constantPool.hasNewConstants());
+    }
+
+    @Test
+    public void encodeExecuteJavaScript_repeatedTooLongExpression_notAddedToConstantPool() {
+        Element element = ElementFactory.createDiv();
+        StringBuilder expression = new StringBuilder("console.log($0);");
+        while (expression.length() <= UidlWriter.MAX_POOLED_EXPRESSION_LENGTH) {
+            expression.append("console.log('Too long to be pooled');");
+        }
+        List<PendingJavaScriptInvocation> executeJavaScriptList = Stream
+                .of("foo", "bar")
+                .map(value -> new PendingJavaScriptInvocation(
+                        element.getNode(),
+                        new JavaScriptInvocation(expression.toString(),
+                                value)))
+                .collect(Collectors.toList());
+        ConstantPool constantPool = new ConstantPool();
+
+        JsonArray json = UidlWriter.encodeExecuteJavaScriptList(
+                executeJavaScriptList, constantPool);
+
+        assertEquals(expression.toString(), json.getArray(1).getString(1));
+        assertFalse(constantPool.hasNewConstants());
+    }
+
+    @Test
+    public void encodeExecuteJavaScript_subscribedInvocation_returnChannelsAddedAndMarked() {
+        Element element = ElementFactory.createDiv();
+        PendingJavaScriptInvocation invocation = new PendingJavaScriptInvocation(
+                element.getNode(), new JavaScriptInvocation("return $0", 1));
+        invocation.then(value -> {
+        }, error -> {
+        });
+
+        JsonArray json = UidlWriter.encodeExecuteJavaScriptList(
+                Collections.singletonList(invocation), new ConstantPool())
+                .getArray(0);
+
+        // argument, success channel, error channel, script
+        assertEquals(4, json.length());
+        JsonObject script = json.getObject(3);
+        assertEquals("return $0",
+                script.getString(JsonConstants.EXECUTE_EXPRESSION));
+        assertTrue(script.getBoolean(JsonConstants.EXECUTE_RETURN_CHANNELS));
+    }
+
     @Test
     public void componentDependencies_npmMode() throws Exception {
         UI ui = initializeUIForDependenciesTest(new TestUI());
@@ -283,6 +377,27 @@ public class UidlWriterTest {
                 response.getBoolean(ApplicationConstants.RESYNCHRONIZE_ID));
     }
 
+    @Test
+    public void requestTimingsCollected_responseContainsPhaseTimings()
+            throws Exception {
+        UI ui = initializeUIForDependenciesTest(new TestUI());
+        VaadinRequest request = mock(VaadinRequest.class);
+        when(request.getAttribute(RequestPhaseTimings.class.getName()))
+                .thenReturn(new RequestPhaseTimings());
+        CurrentInstance.set(VaadinRequest.class, request);
+        try {
+            JsonObject response = new UidlWriter().createUidl(ui, false);
+
+            JsonObject phases = response.getObject("phaseTimings")
+                    .getObject("phases");
+            assertTrue(phases.hasKey(RequestPhaseTimings.ENCODE));
+            assertTrue(phases
+                    .hasKey(RequestPhaseTimings.BEFORE_CLIENT_RESPONSE));
+        } finally {
+            CurrentInstance.set(VaadinRequest.class, null);
+        }
+    }
+
     private void assertInlineDependencies(List<JsonObject> inlineDependencies) {
         assertThat("Should have an inline dependency", inlineDependencies,
                 hasSize(1));
@@ -304,6 +304,45 @@ public class NodeUpdateImportsTest extends NodeUpdateTestUtil {
                 "import '@vaadin/flow-frontend/ExampleConnector.js';"));
     }
 
+    @Test
+    public void fallbackDataUnchanged_tokenFileIsNotUpdated()
+            throws IOException {
+        Stream<Class<?>> classes = Stream.concat(
+                Stream.of(NodeTestComponents.class.getDeclaredClasses()),
+                Stream.of(ExtraNodeTestComponents.class.getDeclaredClasses()));
+        ClassFinder classFinder = new DefaultClassFinder(
+                new URLClassLoader(getClassPath()),
+                classes.toArray(Class<?>[]::new));
+
+        updater = new TaskUpdateImports(classFinder,
+                new FrontendDependenciesScannerFactory().createScanner(false,
+                        classFinder, true),
+                finder -> new FrontendDependenciesScannerFactory()
+                        .createScanner(true, finder, true),
+                tmpRoot, generatedPath, frontendDirectory, tokenFile, null,
+                false) {
+            @Override
+            Logger log() {
+                return logger;
+            }
+        };
+
+        updater.execute();
+        String content = FileUtils.readFileToString(tokenFile,
+                Charset.defaultCharset());
+        Assert.assertThat(content, CoreMatchers.containsString("chunks"));
+
+        // Set an earlier timestamp instead of waiting for the file system
+        // timestamp resolution
+        long timestamp = tokenFile.lastModified() - 10000;
+        assertTrue(tokenFile.setLastModified(timestamp));
+        updater.execute();
+
+        Assert.assertEquals(timestamp, tokenFile.lastModified());
+        Assert.assertEquals(content, FileUtils.readFileToString(tokenFile,
+                Charset.defaultCharset()));
+    }
+
     @Test
     public void noFallBackScanner_fallbackIsNotGenerated() throws IOException {
         Stream<Class<?>> classes = Stream.concat(
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2000-2020 Vaadin Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vaadin.flow.server.frontend;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static com.vaadin.flow.server.Constants.RESOURCES_FRONTEND_DEFAULT;
+import static com.vaadin.flow.server.frontend.FrontendUtils.NODE_MODULES;
+
+public class TaskFingerprintsTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File npmFolder;
+    private File output;
+
+    private static class CountingCommand implements FingerprintedCommand {
+        private final File output;
+        private String fingerprint = "fingerprint";
+        private int executions;
+
+        private CountingCommand(File output) {
+            this.output = output;
+        }
+
+        @Override
+        public void execute() {
+            executions++;
+            output.mkdirs();
+        }
+
+        @Override
+        public String getInputFingerprint() {
+            return fingerprint;
+        }
+
+        @Override
+        public Collection<File> getOutputs() {
+            return Collections.singleton(output);
+        }
+    }
+
+    @Before
+    public void setup() throws IOException {
+        npmFolder = temporaryFolder.newFolder();
+        output = new File(npmFolder, "output");
+    }
+
+    @Test
+    public void sameFingerprint_commandSkippedInNextRun() throws Exception {
+        CountingCommand command = new CountingCommand(output);
+
+        run(command);
+        run(command);
+
+        Assert.assertEquals(1, command.executions);
+    }
+
+    @Test
+    public void changedFingerprint_commandExecuted() throws Exception {
+        CountingCommand command = new CountingCommand(output);
+
+        run(command);
+        command.fingerprint = "changed";
+        run(command);
+
+        Assert.assertEquals(2, command.executions);
+    }
+
+    @Test
+    public void noFingerprint_commandAlwaysExecuted() throws Exception {
+        CountingCommand command = new CountingCommand(output);
+        command.fingerprint = null;
+
+        run(command);
+        run(command);
+
+        Assert.assertEquals(2, command.executions);
+    }
+
+    @Test
+    public void missingOutput_commandExecuted() throws Exception {
+        CountingCommand command = new CountingCommand(output);
+
+        run(command);
+        FileUtils.deleteDirectory(output);
+        run(command);
+
+        Assert.assertEquals(2, command.executions);
+    }
+
+    @Test
+    public void sameOutputWrittenByEarlierCommand_commandExecuted()
+            throws Exception {
+        CountingCommand first = new CountingCommand(output);
+        CountingCommand second = new CountingCommand(output) {
+        };
+
+        run(first, second);
+        first.fingerprint = "changed";
+        run(first, second);
+
+        Assert.assertEquals(2, first.executions);
+        Assert.assertEquals(2, second.executions);
+    }
+
+    @Test
+    public void sameOutputWrittenByLaterCommand_commandExecuted()
+            throws Exception {
+        CountingCommand first = new CountingCommand(output);
+        CountingCommand second = new CountingCommand(output) {
+        };
+
+        run(first, second);
+        second.fingerprint = "changed";
+        run(first, second);
+
+        Assert.assertEquals(2, first.executions);
+        Assert.assertEquals(2, second.executions);
+    }
+
+    @Test
+    public void fileRemovedFromOutput_commandExecuted() throws Exception {
+        CountingCommand command = new CountingCommand(output);
+        File file = new File(output, "foo.js");
+        FileUtils.write(file, "foo", StandardCharsets.UTF_8);
+        run(command);
+
+        Assert.assertTrue(file.delete());
+        run(command);
+
+        Assert.assertEquals(2, command.executions);
+    }
+
+    @Test
+    public void localOverrideRemoved_jarFileRestored() throws Exception {
+        File resources = temporaryFolder.newFolder("resources");
+        FileUtils.write(
+                new File(resources, RESOURCES_FRONTEND_DEFAULT + "/foo.js"),
+                "jar", StandardCharsets.UTF_8);
+        File localFolder = temporaryFolder.newFolder("local");
+        File localFile = new File(localFolder, "foo.js");
+        FileUtils.write(localFile, "local", StandardCharsets.UTF_8);
+        File copiedFile = new File(output, "foo.js");
+
+        runCopyTasks(resources, localFolder);
+        Assert.assertEquals("local",
+                FileUtils.readFileToString(copiedFile, StandardCharsets.UTF_8));
+
+        Assert.assertTrue(localFile.delete());
+        runCopyTasks(resources, localFolder);
+        Assert.assertEquals("jar",
+                FileUtils.readFileToString(copiedFile, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void copiedFileDeleted_fileCopiedAgain() throws Exception {
+        File resources = temporaryFolder.newFolder("resources");
+        FileUtils.write(
+                new File(resources, RESOURCES_FRONTEND_DEFAULT + "/foo.js"),
+                "jar", StandardCharsets.UTF_8);
+        File localFolder = temporaryFolder.newFolder("local");
+        File copiedFile = new File(output, "foo.js");
+
+        runCopyTasks(resources, localFolder);
+        Assert.assertTrue(copiedFile.delete());
+        runCopyTasks(resources, localFolder);
+
+        Assert.assertTrue(copiedFile.exists());
+    }
+
+    @Test
+    public void nodeModulesCleanedDuringRun_commandExecuted()
+            throws Exception {
+        CountingCommand command = new CountingCommand(output);
+        run(command);
+
+        TaskFingerprints fingerprints = new TaskFingerprints(npmFolder);
+        FileUtils.deleteDirectory(new File(npmFolder, NODE_MODULES));
+        fingerprints.execute(command);
+        fingerprints.save();
+
+        Assert.assertEquals(2, command.executions);
+        Assert.assertTrue(new File(new File(npmFolder, NODE_MODULES),
+                TaskFingerprints.FINGERPRINTS_FILE).exists());
+    }
+
+    @Test
+    public void getFilesFingerprint_fileChanged_fingerprintChanged()
+            throws Exception {
+        File folder = temporaryFolder.newFolder("frontend");
+        File file = new File(folder, "foo.js");
+        FileUtils.write(file, "foo", "UTF-8");
+        Collection<File> inputs = Collections.singleton(folder);
+
+        String fingerprint = TaskFingerprints.getFilesFingerprint(inputs);
+        Assert.assertEquals(fingerprint,
+                TaskFingerprints.getFilesFingerprint(inputs));
+
+        FileUtils.write(file, "foobar", "UTF-8");
+        Assert.assertNotEquals(fingerprint,
+                TaskFingerprints.getFilesFingerprint(inputs));
+    }
+
+    private void run(FingerprintedCommand... commands) throws Exception {
+        TaskFingerprints fingerprints = new TaskFingerprints(npmFolder);
+        fingerprints.execute(Arrays.asList(commands));
+        fingerprints.save();
+    }
+
+    private void runCopyTasks(File resources, File localFolder)
+            throws Exception {
+        run(new TaskCopyFrontendFiles(output,
+                Collections.singleton(resources)),
+                new TaskCopyLocalFrontendFiles(output, localFolder));
+    }
+}
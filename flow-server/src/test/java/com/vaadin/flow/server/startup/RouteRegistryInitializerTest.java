@@ -17,6 +17,12 @@ package com.vaadin.flow.server.startup;
 
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -54,18 +60,28 @@ import com.vaadin.flow.router.RouterTest.FileNotFound;
 import com.vaadin.flow.router.TestRouteRegistry;
 import com.vaadin.flow.router.internal.ErrorTargetEntry;
 import com.vaadin.flow.router.internal.HasUrlParameterFormat;
+import com.vaadin.flow.server.Constants;
 import com.vaadin.flow.server.InitialPageSettings;
 import com.vaadin.flow.server.InvalidRouteConfigurationException;
 import com.vaadin.flow.server.InvalidRouteLayoutConfigurationException;
 import com.vaadin.flow.server.PageConfigurator;
 import com.vaadin.flow.server.VaadinServletContext;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+import org.apache.commons.io.FileUtils;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
+import static com.vaadin.flow.server.Constants.VAADIN_SERVLET_RESOURCES;
+import static com.vaadin.flow.server.frontend.FrontendUtils.TOKEN_FILE;
+
 /**
  * Unit tests for RouteRegistryInitializer and RouteRegistry.
  */
@@ -94,6 +110,9 @@ public class RouteRegistryInitializerTest {
     @Rule
     public ExpectedException expectedEx = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void process() throws ServletException {
         routeRegistryInitializer.process(
@@ -350,6 +369,49 @@ public class RouteRegistryInitializerTest {
                 servletContext);
     }
 
+    @Test
+    public void route_index_in_build_info_skips_validation_of_indexed_routes()
+            throws ServletException, IOException {
+        writeRouteIndex(FaultyNavigationTargetWithTitle.class);
+
+        routeRegistryInitializer.process(
+                Collections.singleton(FaultyNavigationTargetWithTitle.class),
+                servletContext);
+
+        Assert.assertEquals(FaultyNavigationTargetWithTitle.class,
+                registry.getNavigationTarget("foo").get());
+    }
+
+    @Test
+    public void outdated_route_index_in_build_info_all_routes_validated()
+            throws ServletException, IOException {
+        writeRouteIndex(FaultyNavigationTargetWithTitle.class);
+
+        expectedEx.expect(DuplicateNavigationTitleException.class);
+
+        routeRegistryInitializer.process(
+                Stream.of(FaultyNavigationTargetWithTitle.class,
+                        NavigationTarget.class).collect(Collectors.toSet()),
+                servletContext);
+    }
+
+    private void writeRouteIndex(Class<?>... routes) throws IOException {
+        File buildInfo = new File(temporaryFolder.getRoot(),
+                VAADIN_SERVLET_RESOURCES + TOKEN_FILE);
+        JsonObject json = Json.createObject();
+        JsonArray routeIndex = Json.createArray();
+        for (Class<?> route : routes) {
+            routeIndex.set(routeIndex.length(), route.getName());
+        }
+        json.put(Constants.ROUTE_INDEX_TOKEN, routeIndex);
+        FileUtils.write(buildInfo, json.toJson(), StandardCharsets.UTF_8);
+
+        URLClassLoader classLoader = new URLClassLoader(
+                new URL[] { temporaryFolder.getRoot().toURI().toURL() },
+                null);
+        Mockito.when(servletContext.getClassLoader()).thenReturn(classLoader);
+    }
+
     @Test
     public void registration_fails_for_navigation_target_with_inherited_dynamic_title()
             throws ServletException {